@@ -16,12 +16,12 @@
 
 package com.toedter.spring.hateoas.jsonapi.example.director;
 
-import static com.toedter.spring.hateoas.jsonapi.JsonApiModelBuilder.jsonApiModel;
 import static com.toedter.spring.hateoas.jsonapi.example.MoviesDemoApplication.DIRECTORS;
 import static com.toedter.spring.hateoas.jsonapi.example.MoviesDemoApplication.MOVIES;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
+import com.toedter.spring.hateoas.jsonapi.JsonApiMediaTypeConfiguration;
 import com.toedter.spring.hateoas.jsonapi.JsonApiModelBuilder;
 import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +33,12 @@ import org.springframework.stereotype.Component;
 @Slf4j
 class DirectorModelAssembler {
 
+  private final JsonApiMediaTypeConfiguration jsonApiMediaTypeConfiguration;
+
+  DirectorModelAssembler(JsonApiMediaTypeConfiguration jsonApiMediaTypeConfiguration) {
+    this.jsonApiMediaTypeConfiguration = jsonApiMediaTypeConfiguration;
+  }
+
   public RepresentationModel<?> toJsonApiModel(Director director, String[] fieldsDirectors) {
     Link selfLink =
         linkTo(methodOn(DirectorController.class).findOne(director.getId(), null, null))
@@ -45,7 +51,11 @@ class DirectorModelAssembler {
         Link.of(directorsLink.getHref() + "{?page[number],page[size]}").withRel(DIRECTORS);
 
     JsonApiModelBuilder builder =
-        jsonApiModel().model(director).link(selfLink).link(templatedDirectorsLink);
+        jsonApiMediaTypeConfiguration
+            .jsonApiModel()
+            .model(director)
+            .link(selfLink)
+            .link(templatedDirectorsLink);
 
     if (fieldsDirectors != null) {
       builder = builder.fields(DIRECTORS, fieldsDirectors);
@@ -16,12 +16,12 @@
 
 package com.toedter.spring.hateoas.jsonapi.example.movie;
 
-import static com.toedter.spring.hateoas.jsonapi.JsonApiModelBuilder.jsonApiModel;
 import static com.toedter.spring.hateoas.jsonapi.example.MoviesDemoApplication.DIRECTORS;
 import static com.toedter.spring.hateoas.jsonapi.example.MoviesDemoApplication.MOVIES;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
 
+import com.toedter.spring.hateoas.jsonapi.JsonApiMediaTypeConfiguration;
 import com.toedter.spring.hateoas.jsonapi.JsonApiModelBuilder;
 import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +32,12 @@ import org.springframework.stereotype.Component;
 @Slf4j
 class MovieModelAssembler {
 
+  private final JsonApiMediaTypeConfiguration jsonApiMediaTypeConfiguration;
+
+  MovieModelAssembler(JsonApiMediaTypeConfiguration jsonApiMediaTypeConfiguration) {
+    this.jsonApiMediaTypeConfiguration = jsonApiMediaTypeConfiguration;
+  }
+
   public RepresentationModel<?> toJsonApiModel(Movie movie, String[] fieldsMovies) {
     Link selfLink =
         linkTo(methodOn(MovieController.class).findOne(movie.getId(), null, null)).withSelfRel();
@@ -54,7 +60,7 @@ class MovieModelAssembler {
         afford(methodOn(MovieController.class).deleteMovie(movie.getId()));
 
     JsonApiModelBuilder builder =
-        jsonApiModel()
+        jsonApiMediaTypeConfiguration.jsonApiModel()
             .model(movie)
             .link(
                 selfLink.andAffordance(updatePartiallyAffordance).andAffordance(deleteAffordance));
@@ -78,7 +84,7 @@ class MovieModelAssembler {
         linkTo(methodOn(MovieController.class).findDirectors(movie.getId())).withSelfRel();
 
     JsonApiModelBuilder builder =
-        jsonApiModel()
+        jsonApiMediaTypeConfiguration.jsonApiModel()
             .model(CollectionModel.of(movie.getDirectors()))
             .relationshipWithDataArray(MOVIES)
             .link(selfLink);
@@ -94,7 +100,7 @@ class MovieModelAssembler {
         linkTo(methodOn(MovieController.class).findDirectors(movie.getId())).withRel("related");
 
     JsonApiModelBuilder builder =
-        jsonApiModel()
+        jsonApiMediaTypeConfiguration.jsonApiModel()
             .model(CollectionModel.of(movie.getDirectors()))
             .relationshipWithDataArray(MOVIES)
             .link(selfLink)
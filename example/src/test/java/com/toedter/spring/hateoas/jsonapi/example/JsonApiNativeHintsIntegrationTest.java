@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.toedter.spring.hateoas.jsonapi.example.director.Director;
+import com.toedter.spring.hateoas.jsonapi.example.movie.Movie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.javapoet.ClassName;
+
+/**
+ * Checks that the AOT contributions of spring-hateoas-jsonapi register the reflection a native
+ * image of this application needs.
+ *
+ * @author Kai Toedter
+ */
+@SpringBootTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("Native Image Runtime Hints Integration Test")
+class JsonApiNativeHintsIntegrationTest {
+
+  private static final String JSON_API_PACKAGE = "com.toedter.spring.hateoas.jsonapi.";
+
+  @Autowired private ConfigurableApplicationContext applicationContext;
+
+  @Test
+  void should_register_runtime_hints_for_library_and_resource_classes() {
+    RuntimeHints hints = new RuntimeHints();
+    GenerationContext generationContext =
+        new DefaultGenerationContext(
+            new ClassNameGenerator(ClassName.get(getClass())), new InMemoryGeneratedFiles(), hints);
+    SpringFactoriesLoader aotFactories =
+        SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories");
+
+    for (RuntimeHintsRegistrar registrar : aotFactories.load(RuntimeHintsRegistrar.class)) {
+      if (registrar.getClass().getName().startsWith(JSON_API_PACKAGE)) {
+        registrar.registerHints(hints, getClass().getClassLoader());
+      }
+    }
+    for (BeanFactoryInitializationAotProcessor processor :
+        aotFactories.load(BeanFactoryInitializationAotProcessor.class)) {
+      if (processor.getClass().getName().startsWith(JSON_API_PACKAGE)) {
+        BeanFactoryInitializationAotContribution contribution =
+            processor.processAheadOfTime(applicationContext.getBeanFactory());
+        assertThat(contribution).isNotNull();
+        contribution.applyTo(generationContext, null);
+      }
+    }
+
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(JSON_API_PACKAGE + "JsonApiDocument")))
+        .accepts(hints);
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(Movie.class)
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS))
+        .accepts(hints);
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(Director.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+        .accepts(hints);
+  }
+}
@@ -16,11 +16,14 @@
 
 package com.toedter.spring.hateoas.jsonapi;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.lang.reflect.Constructor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.EntityModel;
@@ -39,9 +42,22 @@ import tools.jackson.databind.type.TypeFactory;
 @Slf4j
 abstract class AbstractJsonApiModelDeserializer<T> extends StdDeserializer<T> {
 
+  /**
+   * Attribute of the deserialization context that marks the root value as a single resource
+   * object instead of a document, see {@link JsonApiNdjsonReader}.
+   */
+  static final String RESOURCE_OBJECT_ROOT =
+      AbstractJsonApiModelDeserializer.class.getName() + ".resourceObjectRoot";
+
+  private static final JsonApiLinksDeserializer LINKS_DESERIALIZER =
+      new JsonApiLinksDeserializer();
+  private static final JsonApiDocumentDataDeserializer RESOURCE_OBJECT_DESERIALIZER =
+      new JsonApiDocumentDataDeserializer();
+
   protected final JsonMapper jsonMapper;
   protected final JavaType contentType;
   protected final JsonApiConfiguration jsonApiConfiguration;
+  private final Map<Class<?>, CreatorBinding> creatorBoundTypes = new ConcurrentHashMap<>();
 
   AbstractJsonApiModelDeserializer(JsonApiConfiguration jsonApiConfiguration) {
     this(
@@ -63,7 +79,7 @@ abstract class AbstractJsonApiModelDeserializer<T> extends StdDeserializer<T> {
   public T deserialize(JsonParser p, DeserializationContext ctxt) {
     boolean isEntityModelCollection = isEntityModelCollection();
 
-    JsonApiDocument doc = p.readValueAs(JsonApiDocument.class);
+    JsonApiDocument doc = readDocument(p, ctxt);
     Object data = doc.getData();
 
     if (data instanceof Collection<?> collection) {
@@ -83,6 +99,23 @@ abstract class AbstractJsonApiModelDeserializer<T> extends StdDeserializer<T> {
     return convertToRepresentationModel(Collections.emptyList(), doc);
   }
 
+  private JsonApiDocument readDocument(JsonParser p, DeserializationContext ctxt) {
+    boolean resourceObject = ctxt.getAttribute(RESOURCE_OBJECT_ROOT) != null;
+    if (!jsonApiConfiguration.isInputLimited()) {
+      return resourceObject ? readResourceObject(p, ctxt) : p.readValueAs(JsonApiDocument.class);
+    }
+    // enforce the configured input limits while the document is parsed
+    JsonParser guardParser = new JsonApiInputGuardParser(p, jsonApiConfiguration, resourceObject);
+    return resourceObject
+        ? readResourceObject(guardParser, ctxt)
+        : ctxt.readValue(guardParser, JsonApiDocument.class);
+  }
+
+  // a single resource object is read as the primary data of a document, without a tree
+  private static JsonApiDocument readResourceObject(JsonParser p, DeserializationContext ctxt) {
+    return new JsonApiDocument().withData(RESOURCE_OBJECT_DESERIALIZER.deserialize(p, ctxt));
+  }
+
   private boolean isEntityModelCollection() {
     if (this instanceof JsonApiPagedModelDeserializer
         || this instanceof JsonApiCollectionModelDeserializer) {
@@ -125,10 +158,20 @@ abstract class AbstractJsonApiModelDeserializer<T> extends StdDeserializer<T> {
 
     Map<String, Object> attributes = (Map<String, Object>) data.get("attributes");
     JavaType rootType = determineRootType(data, javaType);
+    CreatorBinding creatorBinding = getCreatorBinding(rootType.getRawClass());
+    boolean creatorBound = creatorBinding.creatorBound();
+    if (creatorBound && (attributes != null || !useDataForCreation)) {
+      // Records and @JsonCreator types cannot be mutated after construction,
+      // so id and type are bound together with the attributes in a single pass.
+      // When created from data, id and type are already part of the data.
+      attributes = addResourceIdentifierProperties(attributes, data, creatorBinding);
+    }
     Object objectFromProperties =
         createObjectFromData(attributes, data, rootType, useDataForCreation);
 
-    setResourceIdentifierFields(objectFromProperties, data);
+    if (!creatorBound) {
+      setResourceIdentifierFields(objectFromProperties, data);
+    }
 
     if (wrapInEntityModel) {
       return wrapInEntityModel(objectFromProperties, data, doc);
@@ -179,6 +222,62 @@ abstract class AbstractJsonApiModelDeserializer<T> extends StdDeserializer<T> {
     return createDefaultInstance(rootType);
   }
 
+  private CreatorBinding getCreatorBinding(Class<?> clazz) {
+    return creatorBoundTypes.computeIfAbsent(
+        clazz,
+        key ->
+            isCreatorBound(key)
+                ? new CreatorBinding(
+                    true,
+                    JsonApiResourceIdentifier.getResourceFieldName(
+                        key, JsonApiResourceIdentifier.JsonApiResourceField.ID),
+                    JsonApiResourceIdentifier.getResourceFieldName(
+                        key, JsonApiResourceIdentifier.JsonApiResourceField.TYPE))
+                : CreatorBinding.NOT_CREATOR_BOUND);
+  }
+
+  private static boolean isCreatorBound(Class<?> clazz) {
+    if (clazz.isRecord()) {
+      return true;
+    }
+    for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+      JsonCreator jsonCreator = constructor.getAnnotation(JsonCreator.class);
+      if (jsonCreator != null
+          && constructor.getParameterCount() > 0
+          && jsonCreator.mode() != JsonCreator.Mode.DISABLED
+          && jsonCreator.mode() != JsonCreator.Mode.DELEGATING) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Map<String, Object> addResourceIdentifierProperties(
+      @Nullable Map<String, Object> attributes,
+      HashMap<String, Object> data,
+      CreatorBinding creatorBinding) {
+    String idName = creatorBinding.idName();
+    String typeName = creatorBinding.typeName();
+    Object id = data.get("id");
+    Object type = data.get("type");
+
+    if (attributes != null
+        && (idName == null || id == null)
+        && (typeName == null || type == null)) {
+      return attributes;
+    }
+
+    Map<String, Object> properties =
+        attributes != null ? new HashMap<>(attributes) : new HashMap<>();
+    if (idName != null && id != null) {
+      properties.put(idName, id);
+    }
+    if (typeName != null && type != null) {
+      properties.put(typeName, type);
+    }
+    return properties;
+  }
+
   private Object createDefaultInstance(JavaType rootType) {
     try {
       Class<?> clazz = rootType.getRawClass();
@@ -217,10 +316,9 @@ abstract class AbstractJsonApiModelDeserializer<T> extends StdDeserializer<T> {
     Object linksData = data.get("links");
     if (linksData instanceof Map<?, ?> map) {
       // Use JsonApiLinksDeserializer to properly deserialize links
-      JsonApiLinksDeserializer linksDeserializer = new JsonApiLinksDeserializer();
       @SuppressWarnings("unchecked")
       Map<String, Object> linksMap = (Map<String, Object>) map;
-      return linksDeserializer.deserialize(linksMap);
+      return LINKS_DESERIALIZER.deserialize(linksMap);
     }
     return Links.NONE;
   }
@@ -228,4 +326,11 @@ abstract class AbstractJsonApiModelDeserializer<T> extends StdDeserializer<T> {
   protected abstract T convertToRepresentationModel(List<Object> resources, JsonApiDocument doc);
 
   protected abstract ValueDeserializer<?> createJsonDeserializer(JavaType type);
+
+  // the property names of id and type are only resolved for creator bound types
+  private record CreatorBinding(
+      boolean creatorBound, @Nullable String idName, @Nullable String typeName) {
+
+    static final CreatorBinding NOT_CREATOR_BOUND = new CreatorBinding(false, null, null);
+  }
 }
@@ -20,10 +20,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import lombok.extern.java.Log;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.CollectionModel;
-import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -31,10 +29,10 @@ import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.json.JsonMapper;
 
-@Log
 abstract class AbstractJsonApiModelSerializer<T extends RepresentationModel<?>>
     extends AbstractJsonApiSerializer<T> {
 
+  private final JsonApiRuntimePlan runtimePlan;
   private final JsonApiConfiguration jsonApiConfiguration;
   private final JsonMapper jsonMapper;
 
@@ -57,20 +55,25 @@ abstract class AbstractJsonApiModelSerializer<T extends RepresentationModel<?>>
     }
   }
 
-  protected AbstractJsonApiModelSerializer(Class<?> t, JsonApiConfiguration jsonApiConfiguration) {
-    super(jsonApiConfiguration.getJsonMapper().constructType(t));
-    this.jsonApiConfiguration = jsonApiConfiguration;
+  protected AbstractJsonApiModelSerializer(Class<?> t, JsonApiRuntimePlan runtimePlan) {
+    super(runtimePlan.getJsonApiConfiguration().getJsonMapper().constructType(t));
+    this.runtimePlan = runtimePlan;
+    this.jsonApiConfiguration = runtimePlan.getJsonApiConfiguration();
     this.jsonMapper = jsonApiConfiguration.getJsonMapper();
   }
 
   @Override
   public void serialize(T value, JsonGenerator gen, SerializationContext provider) {
+    JsonApiResourceIdentityCache identityCache =
+        JsonApiResourceIdentityCache.of(provider, jsonApiConfiguration);
     CollectionModel<?> collectionModel = extractCollectionModel(value);
-    SerializationData serializationData = extractSerializationData(value, collectionModel);
+    SerializationData serializationData =
+        extractSerializationData(value, collectionModel, identityCache);
 
     Links documentLevelLinks = determineDocumentLevelLinks(value);
 
-    JsonApiDocument doc = buildJsonApiDocument(serializationData, documentLevelLinks, value);
+    JsonApiDocument doc =
+        buildJsonApiDocument(serializationData, documentLevelLinks, value, identityCache);
     doc = addJsonApiObjectIfNeeded(doc);
     doc = addPageMetaIfNeeded(doc, collectionModel);
     doc = addModelMetaIfNeeded(doc, value, serializationData);
@@ -91,11 +94,13 @@ abstract class AbstractJsonApiModelSerializer<T extends RepresentationModel<?>>
   }
 
   private SerializationData extractSerializationData(
-      T value, @Nullable CollectionModel<?> collectionModel) {
+      T value,
+      @Nullable CollectionModel<?> collectionModel,
+      JsonApiResourceIdentityCache identityCache) {
     if (collectionModel != null) {
       Object data =
           JsonApiData.extractCollectionContent(
-              collectionModel, jsonMapper, jsonApiConfiguration, null, false);
+              collectionModel, jsonMapper, jsonApiConfiguration, null, false, identityCache);
       return new SerializationData(data, null);
     }
 
@@ -103,7 +108,8 @@ abstract class AbstractJsonApiModelSerializer<T extends RepresentationModel<?>>
         && jsonApiModel.getContent() instanceof JsonApiModel content) {
       Map<String, Object> embeddedMeta = content.getMetaData();
       Optional<JsonApiData> jsonApiData =
-          JsonApiData.extractContent(content, true, jsonMapper, jsonApiConfiguration, null);
+          JsonApiData.extractContent(
+              content, true, jsonMapper, jsonApiConfiguration, null, identityCache);
       return new SerializationData(jsonApiData.orElse(null), embeddedMeta);
     }
 
@@ -112,42 +118,38 @@ abstract class AbstractJsonApiModelSerializer<T extends RepresentationModel<?>>
       embeddedMeta = jsonApiModel.getMetaData();
     }
     Optional<JsonApiData> jsonApiData =
-        JsonApiData.extractContent(value, true, jsonMapper, jsonApiConfiguration, null);
+        JsonApiData.extractContent(
+            value, true, jsonMapper, jsonApiConfiguration, null, identityCache);
     return new SerializationData(jsonApiData.orElse(null), embeddedMeta);
   }
 
   private @Nullable Links determineDocumentLevelLinks(T value) {
-    Links documentLevelLinks = getLinksOrNull(value);
-    if (jsonApiConfiguration.isLinksAtResourceLevel() && !(value instanceof CollectionModel)) {
+    if (runtimePlan.isLinksAtResourceLevel() && !(value instanceof CollectionModel)) {
       // For single resources, links will be at resource level, so don't include at document level
       return null;
     }
-    return documentLevelLinks;
+    return runtimePlan.getTopLevelLinks(value.getLinks());
   }
 
   private JsonApiDocument buildJsonApiDocument(
-      SerializationData serializationData, @Nullable Links documentLevelLinks, T value) {
+      SerializationData serializationData,
+      @Nullable Links documentLevelLinks,
+      T value,
+      JsonApiResourceIdentityCache identityCache) {
     return new JsonApiDocument()
         .withData(serializationData.data())
         .withLinks(documentLevelLinks)
-        .withIncluded(getIncluded(value));
+        .withIncluded(getIncluded(value, identityCache));
   }
 
   private JsonApiDocument addJsonApiObjectIfNeeded(JsonApiDocument doc) {
-    JsonApiObject jsonApiObject = jsonApiConfiguration.getJsonApiObject();
-    if (jsonApiObject != null
-        && (jsonApiObject.getVersion() != null
-            || jsonApiObject.getExt() != null
-            || jsonApiObject.getProfile() != null
-            || jsonApiObject.getMeta() != null)) {
-      return doc.withJsonapi(jsonApiObject);
-    }
-    return doc;
+    JsonApiObject jsonApiObject = runtimePlan.getRenderedJsonApiObject();
+    return jsonApiObject != null ? doc.withJsonapi(jsonApiObject) : doc;
   }
 
   private JsonApiDocument addPageMetaIfNeeded(
       JsonApiDocument doc, @Nullable CollectionModel<?> collectionModel) {
-    if (jsonApiConfiguration.isPageMetaAutomaticallyCreated()
+    if (runtimePlan.isPageMetaAutomaticallyCreated()
         && collectionModel instanceof PagedModel) {
       JsonApiModel model =
           (JsonApiModel)
@@ -202,48 +204,8 @@ abstract class AbstractJsonApiModelSerializer<T extends RepresentationModel<?>>
   private record SerializationData(
       @Nullable Object data, @Nullable Map<String, Object> embeddedMeta) {}
 
-  private @Nullable Links getLinksOrNull(RepresentationModel<?> representationModel) {
-    Links links = representationModel.getLinks();
-    if (links.isEmpty()) {
-      return null;
-    }
-
-    // breaking change: JSON:API only allows specific links at (document) top-level!,
-    // see https://jsonapi.org/format/#document-top-level.
-    // Those links are self, related, describedby, and
-    // the pagination links first, last, prev, and next.
-    // All other top-level links are not allowed and therefore removed.
-    if (jsonApiConfiguration.isJsonApiCompliantLinks()) {
-      return filterValidJsonApiLinks(links);
-    }
-
-    return links;
-  }
-
-  private Links filterValidJsonApiLinks(Links links) {
-    Links validJsonApiLinks = Links.NONE;
-    for (Link link : links) {
-      if (isValidJsonApiTopLevelLink(link, validJsonApiLinks)) {
-        validJsonApiLinks = validJsonApiLinks.and(link);
-      } else {
-        log.warning("removed invalid JSON:API top-level link: " + link.getRel());
-      }
-    }
-    return validJsonApiLinks;
-  }
-
-  private boolean isValidJsonApiTopLevelLink(Link link, Links validJsonApiLinks) {
-    return !validJsonApiLinks.hasLink(link.getRel())
-        && (link.hasRel("self")
-            || link.hasRel("related")
-            || link.hasRel("describedby")
-            || link.hasRel("first")
-            || link.hasRel("last")
-            || link.hasRel("prev")
-            || link.hasRel("next"));
-  }
-
-  private @Nullable List<JsonApiData> getIncluded(RepresentationModel<?> representationModel) {
+  private @Nullable List<JsonApiData> getIncluded(
+      RepresentationModel<?> representationModel, JsonApiResourceIdentityCache identityCache) {
     if (representationModel instanceof JsonApiModel jsonApiModel) {
       final List<RepresentationModel<?>> includedEntities = jsonApiModel.getIncludedEntities();
       if (includedEntities == null) {
@@ -256,7 +218,8 @@ abstract class AbstractJsonApiModelSerializer<T extends RepresentationModel<?>>
           jsonMapper,
           jsonApiConfiguration,
           jsonApiModel.getSparseFieldsets(),
-          true);
+          true,
+          identityCache);
     }
     return null;
   }
@@ -55,6 +55,10 @@ public class JacksonJsonApiModule extends SimpleModule {
 
     addDeserializer(Links.class, new JsonApiLinksDeserializer());
 
+    // JSON:API Atomic Operations extension
+    addDeserializer(JsonApiAtomicOperations.class, new JsonApiAtomicOperationsDeserializer());
+    addSerializer(JsonApiAtomicResults.class, new JsonApiAtomicResultsSerializer());
+
     // Register JsonApiRelationshipSerializer to convert relationship data to resource identifiers
     if (jsonApiConfiguration != null) {
       JsonApiRelationshipSerializer jsonApiRelationshipSerializer =
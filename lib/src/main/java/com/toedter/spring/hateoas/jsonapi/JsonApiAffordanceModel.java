@@ -20,8 +20,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -32,6 +32,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.AffordanceModel;
 import org.springframework.hateoas.mediatype.ConfiguredAffordance;
 import org.springframework.http.HttpMethod;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 @EqualsAndHashCode(callSuper = true)
 class JsonApiAffordanceModel extends AffordanceModel {
@@ -60,8 +61,16 @@ class JsonApiAffordanceModel extends AffordanceModel {
   private static final Set<HttpMethod> ENTITY_ALTERING_METHODS =
       Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH);
 
-  private final List<PropertyData> inputProperties;
-  private final List<PropertyData> queryProperties;
+  /**
+   * The input properties only depend on the input type, so they are shared by all affordance models
+   * with the same input metadata, i.e. all affordances of the same controller method.
+   */
+  private static final Map<InputPayloadMetadata, List<PropertyData>> INPUT_PROPERTIES_CACHE =
+      new ConcurrentReferenceHashMap<>();
+
+  // computed lazily, since they are only needed if affordances are rendered
+  @EqualsAndHashCode.Exclude @Nullable private volatile List<PropertyData> inputProperties;
+  @EqualsAndHashCode.Exclude @Nullable private volatile List<PropertyData> queryProperties;
 
   JsonApiAffordanceModel(ConfiguredAffordance configured) {
     super(
@@ -71,8 +80,6 @@ class JsonApiAffordanceModel extends AffordanceModel {
         configured.getInputMetadata(),
         configured.getQueryParameters(),
         configured.getOutputMetadata());
-    this.inputProperties = determineAffordanceInputs();
-    this.queryProperties = determineQueryProperties();
   }
 
   private List<PropertyData> determineAffordanceInputs() {
@@ -80,14 +87,28 @@ class JsonApiAffordanceModel extends AffordanceModel {
       return Collections.emptyList();
     }
 
-    return getInput().stream()
-        .map(
-            propertyMetadata ->
-                new PropertyData()
-                    .withName(propertyMetadata.getName())
-                    .withType(propertyMetadata.getInputType())
-                    .withRequired(propertyMetadata.isRequired()))
-        .collect(Collectors.toList());
+    return getInputProperties(getInput());
+  }
+
+  /**
+   * Returns the input properties for the given input metadata, computing them only once per input
+   * metadata.
+   *
+   * @param input must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  static List<PropertyData> getInputProperties(InputPayloadMetadata input) {
+    return INPUT_PROPERTIES_CACHE.computeIfAbsent(
+        input,
+        key ->
+            key.stream()
+                .map(
+                    propertyMetadata ->
+                        new PropertyData()
+                            .withName(propertyMetadata.getName())
+                            .withType(propertyMetadata.getInputType())
+                            .withRequired(propertyMetadata.isRequired()))
+                .toList());
   }
 
   /**
@@ -99,21 +120,27 @@ class JsonApiAffordanceModel extends AffordanceModel {
       return Collections.emptyList();
     }
 
-    if (getHttpMethod().equals(HttpMethod.GET)) {
-      return getQueryMethodParameters().stream()
-          .map(queryParameter -> new PropertyData().withName(queryParameter.getName()).withType(""))
-          .collect(Collectors.toList());
-    } else {
-      return Collections.emptyList();
-    }
+    return getQueryMethodParameters().stream()
+        .map(queryParameter -> new PropertyData().withName(queryParameter.getName()).withType(""))
+        .toList();
   }
 
   public List<PropertyData> getInputProperties() {
-    return this.inputProperties;
+    List<PropertyData> properties = this.inputProperties;
+    if (properties == null) {
+      properties = determineAffordanceInputs();
+      this.inputProperties = properties;
+    }
+    return properties;
   }
 
   public List<PropertyData> getQueryProperties() {
-    return this.queryProperties;
+    List<PropertyData> properties = this.queryProperties;
+    if (properties == null) {
+      properties = determineQueryProperties();
+      this.queryProperties = properties;
+    }
+    return properties;
   }
 
   @Override
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+/**
+ * Precomputes the affordance input properties of all entity altering request mappings at startup,
+ * so that the first request rendering an affordance does not pay for the property introspection.
+ *
+ * @author Kai Toedter
+ */
+@Slf4j
+class JsonApiAffordancePrecomputer implements SmartInitializingSingleton {
+
+  private static final boolean WEB_MVC_PRESENT =
+      ClassUtils.isPresent(
+          "org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping",
+          JsonApiAffordancePrecomputer.class.getClassLoader());
+
+  private static final Set<RequestMethod> ENTITY_ALTERING_METHODS =
+      Set.of(RequestMethod.POST, RequestMethod.PUT, RequestMethod.PATCH);
+
+  private final ListableBeanFactory beanFactory;
+
+  JsonApiAffordancePrecomputer(ListableBeanFactory beanFactory) {
+    this.beanFactory = beanFactory;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (WEB_MVC_PRESENT) {
+      int count = WebMvcHandlerMethods.precompute(beanFactory);
+      log.debug("precomputed JSON:API affordance properties for {} methods", count);
+    }
+  }
+
+  /**
+   * Precomputes the input properties for the request body of the given controller method.
+   *
+   * @param method must not be {@literal null}.
+   * @return {@literal true} if the method has a request body, {@literal false} otherwise.
+   */
+  static boolean precompute(Method method) {
+    for (int i = 0; i < method.getParameterCount(); i++) {
+      MethodParameter parameter = new MethodParameter(method, i);
+      if (parameter.hasParameterAnnotation(RequestBody.class)) {
+        JsonApiAffordanceModel.getInputProperties(
+            PropertyUtils.getExposedProperties(ResolvableType.forMethodParameter(parameter)));
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // only loaded if Spring Web MVC is on the classpath
+  private static class WebMvcHandlerMethods {
+
+    static int precompute(ListableBeanFactory beanFactory) {
+      int count = 0;
+      for (RequestMappingInfoHandlerMapping handlerMapping :
+          beanFactory.getBeansOfType(RequestMappingInfoHandlerMapping.class).values()) {
+        for (var entry : handlerMapping.getHandlerMethods().entrySet()) {
+          if (isEntityAltering(entry.getKey())
+              && JsonApiAffordancePrecomputer.precompute(entry.getValue().getMethod())) {
+            count++;
+          }
+        }
+      }
+      return count;
+    }
+
+    private static boolean isEntityAltering(RequestMappingInfo info) {
+      return info.getMethodsCondition().getMethods().stream()
+          .anyMatch(ENTITY_ALTERING_METHODS::contains);
+    }
+  }
+}
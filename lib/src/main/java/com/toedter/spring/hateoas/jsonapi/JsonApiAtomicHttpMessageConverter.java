@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.io.IOException;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.Assert;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Spring MVC {@link org.springframework.http.converter.HttpMessageConverter} for the JSON:API
+ * Atomic Operations extension ({@link MediaTypes#JSON_API_ATOMIC}). It reads a request body into
+ * {@link JsonApiAtomicOperations} and writes {@link JsonApiAtomicResults}.
+ *
+ * <p>The JSON:API message converter of Spring HATEOAS only handles representation models, so this
+ * converter has to be registered by the application, e.g. as a bean in a Spring Boot application.
+ * It should use the JSON:API mapper of the application, so that the operations are bound with the
+ * same configuration as other requests:
+ *
+ * <pre>{@code
+ * @Bean
+ * JsonApiAtomicHttpMessageConverter jsonApiAtomicHttpMessageConverter(
+ *     JsonMapper jsonMapper, JsonApiMediaTypeConfiguration jsonApiMediaTypeConfiguration) {
+ *   return new JsonApiAtomicHttpMessageConverter(
+ *       jsonApiMediaTypeConfiguration.configureJsonMapper(jsonMapper.rebuild()).build());
+ * }
+ * }</pre>
+ *
+ * @author Kai Toedter
+ */
+public class JsonApiAtomicHttpMessageConverter extends AbstractSmartHttpMessageConverter<Object> {
+
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Creates a new {@link JsonApiAtomicHttpMessageConverter}.
+   *
+   * @param jsonMapper a {@link JsonMapper} configured for JSON:API, must not be {@literal null}.
+   */
+  public JsonApiAtomicHttpMessageConverter(JsonMapper jsonMapper) {
+    super(MediaTypes.JSON_API_ATOMIC);
+    Assert.notNull(jsonMapper, "jsonMapper must not be null!");
+    this.jsonMapper = jsonMapper;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return JsonApiAtomicOperations.class.equals(clazz)
+        || JsonApiAtomicResults.class.equals(clazz);
+  }
+
+  @Override
+  public boolean canRead(ResolvableType type, @Nullable MediaType mediaType) {
+    return JsonApiAtomicOperations.class.equals(type.toClass()) && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(ResolvableType type, Class<?> clazz, @Nullable MediaType mediaType) {
+    return JsonApiAtomicResults.class.equals(clazz) && canWrite(mediaType);
+  }
+
+  @Override
+  public Object read(
+      ResolvableType type, HttpInputMessage inputMessage, @Nullable Map<String, Object> hints)
+      throws IOException {
+    try {
+      return jsonMapper.readValue(inputMessage.getBody(), JsonApiAtomicOperations.class);
+    } catch (JacksonException e) {
+      throw new HttpMessageNotReadableException(
+          "Cannot read JSON:API atomic operations: " + e.getOriginalMessage(), e, inputMessage);
+    }
+  }
+
+  @Override
+  protected void writeInternal(
+      Object results,
+      ResolvableType type,
+      HttpOutputMessage outputMessage,
+      @Nullable Map<String, Object> hints)
+      throws IOException {
+    try {
+      jsonMapper.writeValue(outputMessage.getBody(), results);
+    } catch (JacksonException e) {
+      throw new HttpMessageNotWritableException(
+          "Cannot write JSON:API atomic results: " + e.getOriginalMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.EntityModel;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * A single operation of a JSON:API Atomic Operations request.
+ *
+ * <p>The resource data is kept as a JSON tree and bound to a domain object on demand, see {@link
+ * #toEntityModel(Class)}. Local ids ({@literal lid}) referenced by the data are resolved with the
+ * {@link JsonApiLocalIds} of the request when binding.
+ *
+ * @author Kai Toedter
+ * @see <a href="https://jsonapi.org/ext/atomic/#operation-objects">Operation Objects</a>
+ */
+@Getter
+public class JsonApiAtomicOperation {
+
+  private static final String ID = "id";
+  private static final String LID = "lid";
+  private static final String TYPE = "type";
+  private static final String DATA = "data";
+  private static final String RELATIONSHIPS = "relationships";
+
+  /** The operation code of an atomic operation. */
+  public enum Op {
+    /** Adds a resource or members of a to-many relationship. */
+    ADD,
+    /** Updates a resource or a relationship. */
+    UPDATE,
+    /** Removes a resource or members of a to-many relationship. */
+    REMOVE;
+
+    static Op of(String value) {
+      try {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Unknown atomic operation: " + value, e);
+      }
+    }
+  }
+
+  /**
+   * The target of an operation.
+   *
+   * @param type the JSON:API type of the target resource
+   * @param id the id of the target resource
+   * @param lid the local id of the target resource
+   * @param relationship the name of the target relationship, if the operation targets one
+   */
+  public record Ref(
+      @Nullable String type,
+      @Nullable String id,
+      @Nullable String lid,
+      @Nullable String relationship) {}
+
+  /**
+   * Gets the operation code.
+   *
+   * @return will never be {@literal null}.
+   */
+  private final Op op;
+
+  /**
+   * Gets the target reference of the operation.
+   *
+   * @return can be {@literal null}.
+   */
+  @Nullable private final Ref ref;
+
+  /**
+   * Gets the target URI of the operation.
+   *
+   * @return can be {@literal null}.
+   */
+  @Nullable private final String href;
+
+  /**
+   * Gets the raw operation data, a resource object, resource linkage or {@literal null}.
+   *
+   * @return can be {@literal null}.
+   */
+  @Nullable private final JsonNode data;
+
+  /**
+   * Gets the meta of the operation.
+   *
+   * @return can be {@literal null}.
+   */
+  @Nullable private final Map<String, Object> meta;
+
+  @Getter(AccessLevel.NONE)
+  private final JsonApiLocalIds localIds;
+
+  // the context the request was read with, so that binding uses the application's mapper
+  @Getter(AccessLevel.NONE)
+  private final DeserializationContext deserializationContext;
+
+  JsonApiAtomicOperation(
+      Op op,
+      @Nullable Ref ref,
+      @Nullable String href,
+      @Nullable JsonNode data,
+      @Nullable Map<String, Object> meta,
+      JsonApiLocalIds localIds,
+      DeserializationContext deserializationContext) {
+    this.op = op;
+    this.ref = ref;
+    this.href = href;
+    this.data = data;
+    this.meta = meta;
+    this.localIds = localIds;
+    this.deserializationContext = deserializationContext;
+  }
+
+  /**
+   * Gets the JSON:API type of the target or the resource data.
+   *
+   * @return can be {@literal null}.
+   */
+  public @Nullable String getType() {
+    if (ref != null && ref.type() != null) {
+      return ref.type();
+    }
+    return data != null ? getString(data, TYPE) : null;
+  }
+
+  /**
+   * Gets the local id of the target or the resource data.
+   *
+   * @return can be {@literal null}.
+   */
+  public @Nullable String getLid() {
+    if (ref != null && ref.lid() != null) {
+      return ref.lid();
+    }
+    return data != null ? getString(data, LID) : null;
+  }
+
+  /**
+   * Gets the id of the target or the resource data. If only a local id is given, it is resolved
+   * with the ids registered so far.
+   *
+   * @return can be {@literal null}.
+   */
+  public @Nullable String getId() {
+    String id = ref != null ? ref.id() : null;
+    if (id == null && data != null) {
+      id = getString(data, ID);
+    }
+    String lid = getLid();
+    String type = getType();
+    if (id == null && lid != null && type != null) {
+      id = localIds.resolve(type, lid);
+    }
+    return id;
+  }
+
+  /**
+   * Indicates if the operation targets a relationship.
+   *
+   * @return {@literal true}, if the reference contains a relationship.
+   */
+  public boolean isRelationshipOperation() {
+    return ref != null && ref.relationship() != null;
+  }
+
+  /**
+   * Binds the resource object of this operation to an {@link EntityModel}. Local ids in the
+   * resource and its relationships are replaced by the ids registered in the {@link
+   * JsonApiLocalIds} of the request. The resource is bound with the Jackson configuration the
+   * request was read with, so it has to be bound while the request is processed.
+   *
+   * @param clazz the class of the entity, must not be {@literal null}.
+   * @param <T> the type of the entity
+   * @return the bound entity model
+   * @throws IllegalStateException if the data is not a resource object or a referenced local id is
+   *     not registered yet
+   */
+  public <T> EntityModel<T> toEntityModel(Class<T> clazz) {
+    if (data == null || !data.isObject()) {
+      throw new IllegalStateException("The " + op + " operation has no resource object as data");
+    }
+
+    ObjectNode resource = (ObjectNode) data.deepCopy();
+    resolveLocalId(resource, false);
+    JsonNode relationships = resource.get(RELATIONSHIPS);
+    if (relationships != null && relationships.isObject()) {
+      for (Map.Entry<String, JsonNode> relationship : relationships.properties()) {
+        resolveLinkage(relationship.getValue().get(DATA));
+      }
+    }
+
+    ObjectNode document = deserializationContext.getNodeFactory().objectNode();
+    document.set(DATA, resource);
+    JavaType type =
+        deserializationContext
+            .getTypeFactory()
+            .constructParametricType(EntityModel.class, clazz);
+    return deserializationContext.readTreeAsValue(document, type);
+  }
+
+  /**
+   * Gets the ids of the resource linkage of a relationship operation. Local ids are resolved with
+   * the ids registered so far.
+   *
+   * @return the ids, empty if the linkage is {@literal null} or empty.
+   * @throws IllegalStateException if a referenced local id is not registered yet
+   */
+  public List<String> getLinkageIds() {
+    if (data == null || data.isNull()) {
+      return Collections.emptyList();
+    }
+    List<String> ids = new ArrayList<>();
+    if (data.isArray()) {
+      for (JsonNode identifier : data) {
+        ids.add(getLinkageId(identifier));
+      }
+    } else {
+      ids.add(getLinkageId(data));
+    }
+    return ids;
+  }
+
+  private void resolveLinkage(@Nullable JsonNode linkage) {
+    if (linkage == null) {
+      return;
+    }
+    if (linkage.isArray()) {
+      for (JsonNode identifier : linkage) {
+        if (identifier.isObject()) {
+          resolveLocalId((ObjectNode) identifier, true);
+        }
+      }
+    } else if (linkage.isObject()) {
+      resolveLocalId((ObjectNode) linkage, true);
+    }
+  }
+
+  private void resolveLocalId(ObjectNode identifier, boolean required) {
+    String lid = getString(identifier, LID);
+    if (lid == null || identifier.has(ID)) {
+      return;
+    }
+    String id = resolveLocalId(getString(identifier, TYPE), lid, required);
+    if (id != null) {
+      identifier.put(ID, id);
+      identifier.remove(LID);
+    }
+  }
+
+  private String getLinkageId(JsonNode identifier) {
+    String id = getString(identifier, ID);
+    if (id != null) {
+      return id;
+    }
+    String lid = getString(identifier, LID);
+    if (lid == null) {
+      throw new IllegalStateException("Resource linkage must contain an id or a lid");
+    }
+    return resolveLocalId(getString(identifier, TYPE), lid, true);
+  }
+
+  private @Nullable String resolveLocalId(@Nullable String type, String lid, boolean required) {
+    String id = type != null ? localIds.resolve(type, lid) : null;
+    if (id == null && required) {
+      throw new IllegalStateException(
+          "Local id '" + lid + "' of type '" + type + "' has no registered id");
+    }
+    return id;
+  }
+
+  private static @Nullable String getString(JsonNode node, String name) {
+    JsonNode value = node.get(name);
+    return value != null && value.isString() ? value.asString() : null;
+  }
+}
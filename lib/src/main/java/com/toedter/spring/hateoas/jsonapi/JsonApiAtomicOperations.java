@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.util.Assert;
+
+/**
+ * A JSON:API Atomic Operations request, the {@literal atomic:operations} of a document with the
+ * media type {@link MediaTypes#JSON_API_ATOMIC}. All operations of a request are meant to be
+ * applied as one unit, see {@link #execute(JsonApiAtomicOperationsHandler)}.
+ *
+ * @author Kai Toedter
+ * @see <a href="https://jsonapi.org/ext/atomic/">JSON:API Atomic Operations</a>
+ */
+@Getter
+public class JsonApiAtomicOperations {
+
+  /**
+   * Gets the operations in document order.
+   *
+   * @return will never be {@literal null}.
+   */
+  private final List<JsonApiAtomicOperation> operations;
+
+  /**
+   * Gets the local ids of this request. Register the ids of created resources here, so that later
+   * operations referencing their local ids can be bound.
+   *
+   * @return will never be {@literal null}.
+   */
+  private final JsonApiLocalIds localIds;
+
+  JsonApiAtomicOperations(List<JsonApiAtomicOperation> operations, JsonApiLocalIds localIds) {
+    this.operations = Collections.unmodifiableList(operations);
+    this.localIds = localIds;
+  }
+
+  /**
+   * Hands all operations as one batch to the given handler and collects its results.
+   *
+   * @param handler the handler, must not be {@literal null}.
+   * @return the results, will never be {@literal null}.
+   * @throws IllegalStateException if the handler does not return one result per operation
+   */
+  public JsonApiAtomicResults execute(JsonApiAtomicOperationsHandler handler) {
+    Assert.notNull(handler, "handler must not be null!");
+
+    List<? extends @Nullable RepresentationModel<?>> results = handler.handle(this);
+    if (results.size() != operations.size()) {
+      throw new IllegalStateException(
+          "Expected "
+              + operations.size()
+              + " atomic results but the handler returned "
+              + results.size());
+    }
+    return new JsonApiAtomicResults(results);
+  }
+}
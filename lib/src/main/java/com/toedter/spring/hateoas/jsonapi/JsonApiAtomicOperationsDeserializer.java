@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+class JsonApiAtomicOperationsDeserializer extends StdDeserializer<JsonApiAtomicOperations> {
+
+  static final String ATOMIC_OPERATIONS = "atomic:operations";
+
+  private static final String OP = "op";
+  private static final String REF = "ref";
+  private static final String HREF = "href";
+  private static final String DATA = "data";
+  private static final String META = "meta";
+  private static final String TYPE = "type";
+  private static final String ID = "id";
+  private static final String LID = "lid";
+  private static final String RELATIONSHIP = "relationship";
+  private static final String RELATIONSHIPS = "relationships";
+
+  JsonApiAtomicOperationsDeserializer() {
+    super(JsonApiAtomicOperations.class);
+  }
+
+  @Override
+  public JsonApiAtomicOperations deserialize(JsonParser p, DeserializationContext ctxt) {
+    if (!p.isExpectedStartObjectToken()) {
+      return (JsonApiAtomicOperations) ctxt.handleUnexpectedToken(JsonApiAtomicOperations.class, p);
+    }
+
+    JsonApiLocalIds localIds = new JsonApiLocalIds();
+    List<JsonApiAtomicOperation> operations = null;
+    for (String name = p.nextName(); name != null; name = p.nextName()) {
+      p.nextToken();
+      if (ATOMIC_OPERATIONS.equals(name)) {
+        operations = readOperations(p, ctxt, localIds);
+      } else {
+        p.skipChildren();
+      }
+    }
+
+    if (operations == null) {
+      return ctxt.reportInputMismatch(
+          this, "JSON:API atomic operations document must contain \"%s\"", ATOMIC_OPERATIONS);
+    }
+    return new JsonApiAtomicOperations(operations, localIds);
+  }
+
+  private List<JsonApiAtomicOperation> readOperations(
+      JsonParser p, DeserializationContext ctxt, JsonApiLocalIds localIds) {
+    if (p.currentToken() != JsonToken.START_ARRAY) {
+      return ctxt.reportInputMismatch(this, "\"%s\" must be an array", ATOMIC_OPERATIONS);
+    }
+
+    Set<String> declaredLocalIds = new HashSet<>();
+    List<JsonApiAtomicOperation> operations = new ArrayList<>();
+    while (p.nextToken() == JsonToken.START_OBJECT) {
+      JsonApiAtomicOperation operation = readOperation(p, ctxt, localIds);
+      checkLocalIds(operation, declaredLocalIds, ctxt);
+      operations.add(operation);
+    }
+    if (p.currentToken() != JsonToken.END_ARRAY) {
+      return ctxt.reportInputMismatch(this, "Atomic operations must be objects");
+    }
+    return operations;
+  }
+
+  @SuppressWarnings("unchecked")
+  private JsonApiAtomicOperation readOperation(
+      JsonParser p, DeserializationContext ctxt, JsonApiLocalIds localIds) {
+    String op = null;
+    JsonApiAtomicOperation.Ref ref = null;
+    String href = null;
+    JsonNode data = null;
+    Map<String, Object> meta = null;
+
+    for (String name = p.nextName(); name != null; name = p.nextName()) {
+      p.nextToken();
+      switch (name) {
+        case OP -> op = p.getValueAsString();
+        case REF -> ref = readRef(p, ctxt);
+        case HREF -> href = p.getValueAsString();
+        case DATA -> data = ctxt.readTree(p);
+        case META -> meta = ctxt.readValue(p, Map.class);
+        default -> p.skipChildren();
+      }
+    }
+
+    if (op == null) {
+      return ctxt.reportInputMismatch(this, "Atomic operation must contain \"%s\"", OP);
+    }
+    JsonApiAtomicOperation.Op operationCode;
+    try {
+      operationCode = JsonApiAtomicOperation.Op.of(op);
+    } catch (IllegalArgumentException e) {
+      return ctxt.reportInputMismatch(this, "Unknown atomic operation: %s", op);
+    }
+    return new JsonApiAtomicOperation(operationCode, ref, href, data, meta, localIds, ctxt);
+  }
+
+  private JsonApiAtomicOperation.Ref readRef(JsonParser p, DeserializationContext ctxt) {
+    if (p.currentToken() != JsonToken.START_OBJECT) {
+      return ctxt.reportInputMismatch(this, "\"%s\" of an operation must be an object", REF);
+    }
+
+    String type = null;
+    String id = null;
+    String lid = null;
+    String relationship = null;
+    for (String name = p.nextName(); name != null; name = p.nextName()) {
+      p.nextToken();
+      switch (name) {
+        case TYPE -> type = p.getValueAsString();
+        case ID -> id = p.getValueAsString();
+        case LID -> lid = p.getValueAsString();
+        case RELATIONSHIP -> relationship = p.getValueAsString();
+        default -> p.skipChildren();
+      }
+    }
+    return new JsonApiAtomicOperation.Ref(type, id, lid, relationship);
+  }
+
+  /*
+   * A local id may only be referenced after the operation that declares it, see
+   * https://jsonapi.org/ext/atomic/#operation-objects.
+   */
+  private void checkLocalIds(
+      JsonApiAtomicOperation operation, Set<String> declaredLocalIds, DeserializationContext ctxt) {
+    JsonApiAtomicOperation.Ref ref = operation.getRef();
+    if (ref != null && ref.lid() != null) {
+      checkDeclared(ref.type(), ref.lid(), declaredLocalIds, ctxt);
+    }
+
+    JsonNode data = operation.getData();
+    if (data == null) {
+      return;
+    }
+    if (operation.isRelationshipOperation()) {
+      checkLinkage(data, declaredLocalIds, ctxt);
+      return;
+    }
+    if (data.isObject()) {
+      JsonNode relationships = data.get(RELATIONSHIPS);
+      if (relationships != null && relationships.isObject()) {
+        for (Map.Entry<String, JsonNode> relationship : relationships.properties()) {
+          checkLinkage(relationship.getValue().get(DATA), declaredLocalIds, ctxt);
+        }
+      }
+      String lid = getString(data, LID);
+      if (lid != null) {
+        if (operation.getOp() == JsonApiAtomicOperation.Op.ADD) {
+          declaredLocalIds.add(getString(data, TYPE) + ":" + lid);
+        } else {
+          checkDeclared(getString(data, TYPE), lid, declaredLocalIds, ctxt);
+        }
+      }
+    }
+  }
+
+  private void checkLinkage(
+      @Nullable JsonNode linkage, Set<String> declaredLocalIds, DeserializationContext ctxt) {
+    if (linkage == null) {
+      return;
+    }
+    if (linkage.isArray()) {
+      for (JsonNode identifier : linkage) {
+        checkLinkage(identifier, declaredLocalIds, ctxt);
+      }
+    } else if (linkage.isObject()) {
+      String lid = getString(linkage, LID);
+      if (lid != null) {
+        checkDeclared(getString(linkage, TYPE), lid, declaredLocalIds, ctxt);
+      }
+    }
+  }
+
+  private void checkDeclared(
+      @Nullable String type,
+      String lid,
+      Set<String> declaredLocalIds,
+      DeserializationContext ctxt) {
+    if (!declaredLocalIds.contains(type + ":" + lid)) {
+      ctxt.reportInputMismatch(
+          this, "Local id '%s' of type '%s' is not declared by a preceding operation", lid, type);
+    }
+  }
+
+  private static @Nullable String getString(JsonNode node, String name) {
+    JsonNode value = node.get(name);
+    return value != null && value.isString() ? value.asString() : null;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * SPI to apply all operations of a JSON:API Atomic Operations request as one batch, e.g. in a
+ * single transaction using {@code saveAll}.
+ *
+ * @author Kai Toedter
+ * @see JsonApiAtomicOperations#execute(JsonApiAtomicOperationsHandler)
+ */
+@FunctionalInterface
+public interface JsonApiAtomicOperationsHandler {
+
+  /**
+   * Applies the operations. Implementations should register the ids of created resources in
+   * {@link JsonApiAtomicOperations#getLocalIds()} before binding operations that reference their
+   * local ids.
+   *
+   * @param operations the operations of the request
+   * @return one result per operation, in the order of the operations. A {@literal null} result is
+   *     rendered as an empty result object.
+   */
+  List<? extends @Nullable RepresentationModel<?>> handle(JsonApiAtomicOperations operations);
+}
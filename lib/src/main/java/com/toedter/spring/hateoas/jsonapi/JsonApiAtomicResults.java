@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.util.Assert;
+
+/**
+ * The response of a JSON:API Atomic Operations request, rendered as {@literal atomic:results}.
+ * Each result is rendered like a JSON:API document of the given model, a {@literal null} result as
+ * an empty result object.
+ *
+ * @author Kai Toedter
+ * @see <a href="https://jsonapi.org/ext/atomic/#result-objects">Result Objects</a>
+ */
+@Getter
+public class JsonApiAtomicResults {
+
+  /**
+   * Gets the results in the order of the operations.
+   *
+   * @return will never be {@literal null}.
+   */
+  private final List<@Nullable RepresentationModel<?>> results;
+
+  /**
+   * Creates new {@link JsonApiAtomicResults}.
+   *
+   * @param results the results in the order of the operations, must not be {@literal null}.
+   */
+  public JsonApiAtomicResults(List<? extends @Nullable RepresentationModel<?>> results) {
+    Assert.notNull(results, "results must not be null!");
+    this.results = Collections.unmodifiableList(new ArrayList<>(results));
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import org.springframework.hateoas.RepresentationModel;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+
+class JsonApiAtomicResultsSerializer extends AbstractJsonApiSerializer<JsonApiAtomicResults> {
+
+  static final String ATOMIC_RESULTS = "atomic:results";
+
+  JsonApiAtomicResultsSerializer() {
+    super(JsonApiAtomicResults.class);
+  }
+
+  @Override
+  public void serialize(
+      JsonApiAtomicResults value, JsonGenerator gen, SerializationContext provider) {
+    gen.writeStartObject();
+    gen.writeName(ATOMIC_RESULTS);
+    gen.writeStartArray();
+    for (RepresentationModel<?> result : value.getResults()) {
+      if (result == null) {
+        gen.writeStartObject();
+        gen.writeEndObject();
+      } else {
+        // a result object has the same shape as a JSON:API document of the model
+        provider.writeValue(gen, result);
+      }
+    }
+    gen.writeEndArray();
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registers the reflection hints for the user resource classes at build time: all classes in the
+ * application packages that are JPA entities, are annotated with {@link JsonApiTypeForClass}, or
+ * use the JSON:API annotations of this library. Beans are not created during the AOT processing,
+ * so classes that are only mapped with {@link JsonApiConfiguration#withTypeForClass(Class,
+ * String)} are not found and must be annotated or registered by the application.
+ *
+ * @author Kai Toedter
+ */
+class JsonApiBeanFactoryInitializationAotProcessor
+    implements BeanFactoryInitializationAotProcessor {
+
+  private static final boolean AUTO_CONFIGURATION_PACKAGES_PRESENT =
+      ClassUtils.isPresent(
+          "org.springframework.boot.autoconfigure.AutoConfigurationPackages",
+          JsonApiBeanFactoryInitializationAotProcessor.class.getClassLoader());
+
+  private static final String JPA_ENTITY_ANNOTATION = "jakarta.persistence.Entity";
+
+  private static final List<Class<? extends Annotation>> RESOURCE_ANNOTATIONS =
+      List.of(JsonApiId.class, JsonApiType.class, JsonApiMeta.class, JsonApiRelationships.class);
+
+  @Override
+  public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(
+      ConfigurableListableBeanFactory beanFactory) {
+    Set<Class<?>> resourceClasses = findResourceClasses(beanFactory);
+    if (resourceClasses.isEmpty()) {
+      return null;
+    }
+
+    return (generationContext, beanFactoryInitializationCode) ->
+        JsonApiRuntimeHints.registerResourceHints(
+            generationContext.getRuntimeHints().reflection(), resourceClasses);
+  }
+
+  static Set<Class<?>> findResourceClasses(ConfigurableListableBeanFactory beanFactory) {
+    Set<Class<?>> resourceClasses = new LinkedHashSet<>();
+    ClassLoader classLoader = beanFactory.getBeanClassLoader();
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter(JsonApiBeanFactoryInitializationAotProcessor::isResourceClass);
+    for (String basePackage : getBasePackages(beanFactory)) {
+      for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+        String className = candidate.getBeanClassName();
+        if (className != null) {
+          resourceClasses.add(ClassUtils.resolveClassName(className, classLoader));
+        }
+      }
+    }
+    return resourceClasses;
+  }
+
+  private static boolean isResourceClass(
+      MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory)
+      throws IOException {
+    AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+    if (metadata.hasAnnotation(JsonApiTypeForClass.class.getName())
+        || metadata.hasAnnotation(JPA_ENTITY_ANNOTATION)) {
+      return true;
+    }
+
+    for (Class<? extends Annotation> annotation : RESOURCE_ANNOTATIONS) {
+      if (metadata.hasAnnotatedMethods(annotation.getName())) {
+        return true;
+      }
+    }
+
+    // annotated fields are not part of the class metadata, so the class files of the class and its
+    // superclasses are read, without loading the classes
+    MetadataReader reader = metadataReader;
+    while (true) {
+      if (hasAnnotatedFields(reader.getResource())) {
+        return true;
+      }
+      String superClassName = reader.getClassMetadata().getSuperClassName();
+      if (superClassName == null || superClassName.startsWith("java.")) {
+        return false;
+      }
+      try {
+        reader = metadataReaderFactory.getMetadataReader(superClassName);
+      } catch (IOException e) {
+        // superclasses that cannot be read do not contribute annotated fields
+        return false;
+      }
+    }
+  }
+
+  private static boolean hasAnnotatedFields(Resource classFile) throws IOException {
+    AnnotatedFieldsVisitor visitor = new AnnotatedFieldsVisitor();
+    try (InputStream inputStream = classFile.getInputStream()) {
+      new ClassReader(inputStream)
+          .accept(
+              visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    }
+    return visitor.annotatedFieldFound;
+  }
+
+  private static List<String> getBasePackages(ConfigurableListableBeanFactory beanFactory) {
+    if (AUTO_CONFIGURATION_PACKAGES_PRESENT) {
+      return SpringBootPackages.get(beanFactory);
+    }
+    return Collections.emptyList();
+  }
+
+  private static final class AnnotatedFieldsVisitor extends ClassVisitor {
+
+    private static final Set<String> RESOURCE_ANNOTATION_DESCRIPTORS =
+        RESOURCE_ANNOTATIONS.stream().map(Type::getDescriptor).collect(Collectors.toSet());
+
+    private boolean annotatedFieldFound;
+
+    AnnotatedFieldsVisitor() {
+      super(SpringAsmInfo.ASM_VERSION);
+    }
+
+    @Override
+    public @Nullable FieldVisitor visitField(
+        int access,
+        String name,
+        String descriptor,
+        @Nullable String signature,
+        @Nullable Object value) {
+      if (annotatedFieldFound) {
+        return null;
+      }
+      return new FieldVisitor(SpringAsmInfo.ASM_VERSION) {
+        @Override
+        public @Nullable AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+          if (RESOURCE_ANNOTATION_DESCRIPTORS.contains(descriptor)) {
+            annotatedFieldFound = true;
+          }
+          return null;
+        }
+      };
+    }
+  }
+
+  // only loaded if Spring Boot auto-configuration is on the classpath
+  private static class SpringBootPackages {
+
+    static List<String> get(ConfigurableListableBeanFactory beanFactory) {
+      return AutoConfigurationPackages.has(beanFactory)
+          ? AutoConfigurationPackages.get(beanFactory)
+          : Collections.emptyList();
+    }
+  }
+}
@@ -20,7 +20,7 @@ import org.springframework.hateoas.CollectionModel;
 
 class JsonApiCollectionModelSerializer extends AbstractJsonApiModelSerializer<CollectionModel<?>> {
 
-  public JsonApiCollectionModelSerializer(JsonApiConfiguration jsonApiConfiguration) {
-    super(CollectionModel.class, jsonApiConfiguration);
+  public JsonApiCollectionModelSerializer(JsonApiRuntimePlan runtimePlan) {
+    super(CollectionModel.class, runtimePlan);
   }
 }
@@ -16,6 +16,7 @@
 
 package com.toedter.spring.hateoas.jsonapi;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -306,6 +307,79 @@ public class JsonApiConfiguration {
    */
   @With @Getter private final boolean linksAtResourceLevel;
 
+  /**
+   * Jackson asks for an instance of a custom serializer, deserializer or key deserializer (e.g.
+   * declared with {@literal @JsonSerialize(using = ...)}) whenever it builds a (de)serializer for a
+   * type that uses it. By default, the instance is created once per class (as a Spring bean, if a
+   * bean factory is available) and then reused.
+   *
+   * <p>If you set this configuration to {@literal false}, a new instance is created for every
+   * request from Jackson, e.g. if your handlers have prototype semantics.
+   *
+   * @param handlerInstancesCached The new value of this configuration's handlerInstancesCached
+   * @return The default is {@literal true}.
+   */
+  @With @Getter private final boolean handlerInstancesCached;
+
+  /**
+   * Whether the JSON:API message converters are warmed up when the application is ready, before
+   * the readiness state changes to accepting traffic. Synthetic instances of all resource classes
+   * (registered with {@link #withTypeForClass(Class, String)} or found in the application
+   * packages) are serialized and deserialized once, so the first requests do not pay for building
+   * the Jackson serializers.
+   *
+   * @param serializersWarmedUpAtStartup The new value of this configuration's
+   *     serializersWarmedUpAtStartup
+   * @return The default is {@literal false}.
+   */
+  @With @Getter private final boolean serializersWarmedUpAtStartup;
+
+  /**
+   * The maximum number of primary resource objects in the {@literal data} member of an incoming
+   * JSON:API document. The limit is checked while parsing, so the deserialization fails before the
+   * whole document is read.
+   *
+   * @param maxPrimaryResources The new value of this configuration's maxPrimaryResources
+   * @return The default is {@link Integer#MAX_VALUE} (no limit).
+   */
+  @With @Getter private final int maxPrimaryResources;
+
+  /**
+   * The maximum number of resource objects in the {@literal included} member of an incoming
+   * JSON:API document. The limit is checked while parsing.
+   *
+   * @param maxIncludedResources The new value of this configuration's maxIncludedResources
+   * @return The default is {@link Integer#MAX_VALUE} (no limit).
+   */
+  @With @Getter private final int maxIncludedResources;
+
+  /**
+   * The maximum number of resource identifiers in the linkage ({@literal data}) of a single
+   * relationship of an incoming JSON:API document. The limit is checked while parsing.
+   *
+   * @param maxRelationshipLinkage The new value of this configuration's maxRelationshipLinkage
+   * @return The default is {@link Integer#MAX_VALUE} (no limit).
+   */
+  @With @Getter private final int maxRelationshipLinkage;
+
+  /**
+   * The maximum nesting depth of JSON objects and arrays in an incoming JSON:API document, counted
+   * from the top-level document object. The limit is checked while parsing.
+   *
+   * @param maxNestingDepth The new value of this configuration's maxNestingDepth
+   * @return The default is {@link Integer#MAX_VALUE} (no limit).
+   */
+  @With @Getter private final int maxNestingDepth;
+
+  /**
+   * The maximum number of attributes of a single resource object in an incoming JSON:API document.
+   * The limit is checked while parsing.
+   *
+   * @param maxAttributes The new value of this configuration's maxAttributes
+   * @return The default is {@link Integer#MAX_VALUE} (no limit).
+   */
+  @With @Getter private final int maxAttributes;
+
   @With(AccessLevel.PRIVATE)
   private final Map<Class<?>, String> typeForClass;
 
@@ -365,6 +439,15 @@ public class JsonApiConfiguration {
     return typeForClass.get(clazz);
   }
 
+  /**
+   * Returns all classes added with {@link #withTypeForClass(Class, String)}.
+   *
+   * @return will never be {@literal null}.
+   */
+  Set<Class<?>> getClassesWithTypeForClass() {
+    return Collections.unmodifiableSet(typeForClass.keySet());
+  }
+
   /**
    * Returns the {@literal class} for a given type, when the class was added with {@link
    * #withTypeForClass(Class, String)}.
@@ -384,6 +467,35 @@ public class JsonApiConfiguration {
     return null;
   }
 
+  /**
+   * Indicates if any of the input limits for incoming JSON:API documents is set.
+   *
+   * @return {@literal true}, if at least one input limit is set.
+   */
+  boolean isInputLimited() {
+    return maxPrimaryResources != Integer.MAX_VALUE
+        || maxIncludedResources != Integer.MAX_VALUE
+        || maxRelationshipLinkage != Integer.MAX_VALUE
+        || maxNestingDepth != Integer.MAX_VALUE
+        || maxAttributes != Integer.MAX_VALUE;
+  }
+
+  /**
+   * Indicates if the given configuration computes the same JSON:API {@literal id} and {@literal
+   * type} for any object as this configuration does, so that resource identifiers resolved with
+   * one of them can be reused with the other.
+   *
+   * @param other must not be {@literal null}.
+   * @return {@literal true}, if resource identifiers are resolved in the same way.
+   */
+  boolean resolvesResourceIdentifiersLike(JsonApiConfiguration other) {
+    return this == other
+        || (pluralizedTypeRendered == other.pluralizedTypeRendered
+            && lowerCasedTypeRendered == other.lowerCasedTypeRendered
+            && mapperCustomizer == other.mapperCustomizer
+            && typeForClass.equals(other.typeForClass));
+  }
+
   /** Creates a new default {@link JsonApiConfiguration}. */
   public JsonApiConfiguration() {
     this.pluralizedTypeRendered = true;
@@ -399,6 +511,13 @@ public class JsonApiConfiguration {
     this.jsonApiCompliantLinks = true;
     this.linksNotUrlEncoded = new HashSet<>();
     this.linksAtResourceLevel = false;
+    this.handlerInstancesCached = true;
+    this.serializersWarmedUpAtStartup = false;
+    this.maxPrimaryResources = Integer.MAX_VALUE;
+    this.maxIncludedResources = Integer.MAX_VALUE;
+    this.maxRelationshipLinkage = Integer.MAX_VALUE;
+    this.maxNestingDepth = Integer.MAX_VALUE;
+    this.maxAttributes = Integer.MAX_VALUE;
     this.mapperCustomizer = UnaryOperator.identity();
   }
 }
@@ -37,23 +37,21 @@ import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.With;
-import lombok.extern.java.Log;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.util.StringUtils;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.annotation.JsonSerialize;
 import tools.jackson.databind.json.JsonMapper;
 
 @Getter(onMethod_ = {@JsonProperty})
 @With(AccessLevel.PACKAGE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
-@Log
 @SuppressWarnings("squid:S3011")
 class JsonApiData {
 
@@ -62,6 +60,7 @@ class JsonApiData {
   @Nullable Map<String, Object> attributes;
 
   @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  @JsonSerialize(using = JsonApiRelationshipsSerializer.class)
   @Nullable Object relationships;
 
   @Nullable Links links;
@@ -110,11 +109,28 @@ class JsonApiData {
       JsonApiConfiguration jsonApiConfiguration,
       @Nullable Map<String, Collection<String>> sparseFieldsets,
       boolean eliminateDuplicates) {
+    return extractCollectionContent(
+        collectionModel,
+        jsonMapper,
+        jsonApiConfiguration,
+        sparseFieldsets,
+        eliminateDuplicates,
+        new JsonApiResourceIdentityCache(jsonApiConfiguration));
+  }
+
+  static List<JsonApiData> extractCollectionContent(
+      CollectionModel<?> collectionModel,
+      JsonMapper jsonMapper,
+      JsonApiConfiguration jsonApiConfiguration,
+      @Nullable Map<String, Collection<String>> sparseFieldsets,
+      boolean eliminateDuplicates,
+      JsonApiResourceIdentityCache identityCache) {
     if (eliminateDuplicates) {
       HashMap<String, JsonApiData> values = new HashMap<>();
       for (Object entity : collectionModel.getContent()) {
         Optional<JsonApiData> jsonApiData =
-            extractContent(entity, false, jsonMapper, jsonApiConfiguration, sparseFieldsets);
+            extractContent(
+                entity, false, jsonMapper, jsonApiConfiguration, sparseFieldsets, identityCache);
         jsonApiData.ifPresent(
             apiData -> values.put(apiData.getId() + "." + apiData.getType(), apiData));
       }
@@ -123,7 +139,8 @@ class JsonApiData {
       List<JsonApiData> dataList = new ArrayList<>();
       for (Object entity : collectionModel.getContent()) {
         Optional<JsonApiData> jsonApiData =
-            extractContent(entity, false, jsonMapper, jsonApiConfiguration, sparseFieldsets);
+            extractContent(
+                entity, false, jsonMapper, jsonApiConfiguration, sparseFieldsets, identityCache);
         jsonApiData.ifPresent(dataList::add);
       }
       return dataList;
@@ -136,6 +153,22 @@ class JsonApiData {
       JsonMapper jsonMapper,
       JsonApiConfiguration jsonApiConfiguration,
       @Nullable Map<String, Collection<String>> sparseFieldsets) {
+    return extractContent(
+        content,
+        isSingleEntity,
+        jsonMapper,
+        jsonApiConfiguration,
+        sparseFieldsets,
+        new JsonApiResourceIdentityCache(jsonApiConfiguration));
+  }
+
+  static Optional<JsonApiData> extractContent(
+      @Nullable Object content,
+      boolean isSingleEntity,
+      JsonMapper jsonMapper,
+      JsonApiConfiguration jsonApiConfiguration,
+      @Nullable Map<String, Collection<String>> sparseFieldsets,
+      JsonApiResourceIdentityCache identityCache) {
     Links links = null;
     Map<String, JsonApiRelationship> relationships = null;
     Map<String, Object> metaData = null;
@@ -177,8 +210,7 @@ class JsonApiData {
       return Optional.empty();
     }
 
-    JsonApiResourceIdentifier.ResourceField idField;
-    idField = JsonApiResourceIdentifier.getId(content, jsonApiConfiguration);
+    JsonApiResourceIdentifier.ResourceField idField = identityCache.getId(content);
 
     // Only clear links if not configured to be at resource level
     if (!jsonApiConfiguration.isLinksAtResourceLevel()
@@ -195,19 +227,10 @@ class JsonApiData {
     // see https://jsonapi.org/format/#document-resource-object-links.
     // All other resource links are now removed.
     if (links != null && jsonApiConfiguration.isJsonApiCompliantLinks()) {
-      Links validJsonApiLinks = Links.NONE;
-      for (Link link : links) {
-        if (link.hasRel("self")) {
-          validJsonApiLinks = validJsonApiLinks.and(link);
-        } else {
-          log.warning("removed invalid JSON:API resource-level link: " + link.getRel());
-        }
-      }
-      links = validJsonApiLinks;
+      links = JsonApiRuntimePlan.filterResourceLinks(links);
     }
 
-    JsonApiResourceIdentifier.ResourceField typeField =
-        JsonApiResourceIdentifier.getType(content, jsonApiConfiguration);
+    JsonApiResourceIdentifier.ResourceField typeField = identityCache.getType(content);
 
     JavaType mapType =
         jsonMapper.getTypeFactory().constructParametricType(Map.class, String.class, Object.class);
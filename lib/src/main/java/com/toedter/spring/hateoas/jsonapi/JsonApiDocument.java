@@ -27,6 +27,7 @@ import lombok.Getter;
 import lombok.With;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.Links;
+import tools.jackson.databind.annotation.JsonDeserialize;
 
 @With
 @JsonPropertyOrder({"jsonapi", "data", "included", "links", "meta"})
@@ -72,7 +73,10 @@ class JsonApiDocument {
   @JsonCreator
   JsonApiDocument(
       @JsonProperty("jsonapi") @Nullable JsonApiObject jsonapi,
-      @JsonProperty("data") @Nullable Object data,
+      @JsonProperty("data")
+          @JsonDeserialize(using = JsonApiDocumentDataDeserializer.class)
+          @Nullable
+          Object data,
       @JsonProperty("meta") @Nullable Map<String, Object> meta,
       @JsonProperty("errors") @Nullable JsonApiErrors errors,
       @JsonProperty("links") @Nullable Links links,
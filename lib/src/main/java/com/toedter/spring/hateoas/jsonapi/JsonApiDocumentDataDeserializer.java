@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Deserializes the primary data of a JSON:API document into maps and lists, like untyped data.
+ * The linkage of to-many relationships is read directly from the token stream into a {@link
+ * JsonApiLinkage}, so no map is created per resource identifier.
+ *
+ * @author Kai Toedter
+ */
+class JsonApiDocumentDataDeserializer extends StdDeserializer<Object> {
+
+  private static final String ID = "id";
+  private static final String TYPE = "type";
+  private static final String DATA = "data";
+  private static final String RELATIONSHIPS = "relationships";
+
+  JsonApiDocumentDataDeserializer() {
+    super(Object.class);
+  }
+
+  @Override
+  public Object deserialize(JsonParser p, DeserializationContext ctxt) {
+    if (p.currentToken() == JsonToken.START_ARRAY) {
+      List<Object> resources = new ArrayList<>();
+      while (p.nextToken() != JsonToken.END_ARRAY) {
+        resources.add(readValue(p, ctxt));
+      }
+      return resources;
+    }
+    return readValue(p, ctxt);
+  }
+
+  private @Nullable Object readValue(JsonParser p, DeserializationContext ctxt) {
+    if (p.currentToken() == JsonToken.START_OBJECT) {
+      return readResource(p, ctxt);
+    }
+    return readUntyped(p, ctxt);
+  }
+
+  private HashMap<String, Object> readResource(JsonParser p, DeserializationContext ctxt) {
+    HashMap<String, Object> resource = new LinkedHashMap<>();
+    for (String name = p.nextName(); name != null; name = p.nextName()) {
+      JsonToken token = p.nextToken();
+      if (RELATIONSHIPS.equals(name) && token == JsonToken.START_OBJECT) {
+        resource.put(name, readRelationships(p, ctxt));
+      } else {
+        resource.put(name, readUntyped(p, ctxt));
+      }
+    }
+    return resource;
+  }
+
+  private HashMap<String, Object> readRelationships(JsonParser p, DeserializationContext ctxt) {
+    HashMap<String, Object> relationships = new LinkedHashMap<>();
+    for (String name = p.nextName(); name != null; name = p.nextName()) {
+      JsonToken token = p.nextToken();
+      if (token == JsonToken.START_OBJECT) {
+        relationships.put(name, readRelationship(p, ctxt));
+      } else {
+        relationships.put(name, readUntyped(p, ctxt));
+      }
+    }
+    return relationships;
+  }
+
+  private HashMap<String, Object> readRelationship(JsonParser p, DeserializationContext ctxt) {
+    HashMap<String, Object> relationship = new LinkedHashMap<>();
+    for (String name = p.nextName(); name != null; name = p.nextName()) {
+      JsonToken token = p.nextToken();
+      if (DATA.equals(name) && token == JsonToken.START_ARRAY) {
+        relationship.put(name, readLinkage(p, ctxt));
+      } else {
+        relationship.put(name, readUntyped(p, ctxt));
+      }
+    }
+    return relationship;
+  }
+
+  private JsonApiLinkage readLinkage(JsonParser p, DeserializationContext ctxt) {
+    JsonApiLinkage linkage = new JsonApiLinkage();
+    while (p.nextToken() == JsonToken.START_OBJECT) {
+      String id = null;
+      String type = null;
+      HashMap<String, Object> others = null;
+      for (String name = p.nextName(); name != null; name = p.nextName()) {
+        p.nextToken();
+        if (ID.equals(name)) {
+          id = p.getValueAsString();
+        } else if (TYPE.equals(name)) {
+          type = p.getValueAsString();
+        } else {
+          if (others == null) {
+            others = new LinkedHashMap<>();
+          }
+          others.put(name, readUntyped(p, ctxt));
+        }
+      }
+      linkage.add(id, type, others);
+    }
+    if (p.currentToken() != JsonToken.END_ARRAY) {
+      return (JsonApiLinkage) ctxt.handleUnexpectedToken(JsonApiLinkage.class, p);
+    }
+    return linkage;
+  }
+
+  private @Nullable Object readUntyped(JsonParser p, DeserializationContext ctxt) {
+    return ctxt.readValue(p, Object.class);
+  }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.util.Assert;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes JSON:API compound documents of arbitrary size to a {@link WritableByteChannel} or a
+ * file. The primary data and the included resources are consumed one by one from iterators or
+ * streams and serialized with the same rules as HTTP responses, so the whole export is never held
+ * in memory. Only the {@literal type} and {@literal id} of written resources are remembered when
+ * included resources are written, to avoid duplicates.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * new JsonApiDocumentWriter(jsonApiConfiguration)
+ *     .withLinks(Links.of(Link.of("https://example.org/movies")))
+ *     .write(movieRepository.streamAll(), List.of(directorRepository::streamAll), path);
+ * }</pre>
+ *
+ * @author Kai Toedter
+ */
+public class JsonApiDocumentWriter {
+
+  static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+  private final JsonApiConfiguration jsonApiConfiguration;
+  private final JsonMapper jsonMapper;
+  private final ObjectWriter objectWriter;
+  private final JsonApiLinksSerializer linksSerializer;
+  @Nullable private final Links links;
+  @Nullable private final PageLinks pageLinks;
+  private final int bufferSize;
+
+  /**
+   * Creates a new {@link JsonApiDocumentWriter} with its own mapper for the given configuration.
+   * The mapper does not know the Jackson customizations and beans of the application, use {@link
+   * #JsonApiDocumentWriter(JsonApiConfiguration, JsonMapper)} to write documents like the HTTP
+   * responses of the application.
+   *
+   * @param jsonApiConfiguration the {@link JsonApiConfiguration}, must not be {@literal null}.
+   */
+  public JsonApiDocumentWriter(JsonApiConfiguration jsonApiConfiguration) {
+    this(jsonApiConfiguration, createJsonMapper(jsonApiConfiguration));
+  }
+
+  /**
+   * Creates a new {@link JsonApiDocumentWriter} that serializes with the given mapper, e.g. the
+   * JSON:API mapper of the application.
+   *
+   * @param jsonApiConfiguration the {@link JsonApiConfiguration} the mapper is configured with,
+   *     must not be {@literal null}.
+   * @param jsonMapper a {@link JsonMapper} configured for JSON:API, must not be {@literal null}.
+   */
+  public JsonApiDocumentWriter(JsonApiConfiguration jsonApiConfiguration, JsonMapper jsonMapper) {
+    this(
+        jsonApiConfiguration,
+        jsonMapper,
+        createLinksSerializer(jsonApiConfiguration),
+        null,
+        null,
+        DEFAULT_BUFFER_SIZE);
+  }
+
+  private JsonApiDocumentWriter(
+      JsonApiConfiguration jsonApiConfiguration,
+      JsonMapper jsonMapper,
+      JsonApiLinksSerializer linksSerializer,
+      @Nullable Links links,
+      @Nullable PageLinks pageLinks,
+      int bufferSize) {
+    Assert.notNull(jsonMapper, "jsonMapper must not be null!");
+    this.jsonApiConfiguration = jsonApiConfiguration;
+    this.jsonMapper = jsonMapper;
+    this.objectWriter = jsonMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.linksSerializer = linksSerializer;
+    this.links = links;
+    this.pageLinks = pageLinks;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Creates a copy of this writer that renders the given top-level links.
+   *
+   * @param links the top-level links, can be {@literal null}.
+   * @return a new {@link JsonApiDocumentWriter}
+   */
+  public JsonApiDocumentWriter withLinks(@Nullable Links links) {
+    return new JsonApiDocumentWriter(
+        jsonApiConfiguration, jsonMapper, linksSerializer, links, pageLinks, bufferSize);
+  }
+
+  /**
+   * Creates a copy of this writer that renders the pagination links of the given page. The links
+   * are written directly by the {@link PageLinkTemplate}, without creating {@link
+   * org.springframework.hateoas.Link} objects. They replace pagination links given by {@link
+   * #withLinks(Links)}.
+   *
+   * @param pageLinkTemplate the template of the pagination links, must not be {@literal null}.
+   * @param pageMetadata the metadata of the written page, must not be {@literal null}.
+   * @return a new {@link JsonApiDocumentWriter}
+   */
+  public JsonApiDocumentWriter withPageLinks(
+      PageLinkTemplate pageLinkTemplate, PagedModel.PageMetadata pageMetadata) {
+    Assert.notNull(pageLinkTemplate, "pageLinkTemplate must not be null!");
+    Assert.notNull(pageMetadata, "pageMetadata must not be null!");
+    return new JsonApiDocumentWriter(
+        jsonApiConfiguration,
+        jsonMapper,
+        linksSerializer,
+        links,
+        new PageLinks(pageLinkTemplate, pageMetadata),
+        bufferSize);
+  }
+
+  /**
+   * Creates a copy of this writer that uses a direct buffer of the given size. The default is 1
+   * MiB.
+   *
+   * @param bufferSize the buffer size in bytes, must be greater than 0.
+   * @return a new {@link JsonApiDocumentWriter}
+   */
+  public JsonApiDocumentWriter withBufferSize(int bufferSize) {
+    Assert.isTrue(bufferSize > 0, "bufferSize must be greater than 0!");
+    return new JsonApiDocumentWriter(
+        jsonApiConfiguration, jsonMapper, linksSerializer, links, pageLinks, bufferSize);
+  }
+
+  /**
+   * Writes a document with the given primary data to a file. The file is created or truncated.
+   *
+   * @param data the entities or {@link org.springframework.hateoas.RepresentationModel}s of the
+   *     primary data, must not be {@literal null}.
+   * @param included providers of the included entities, must not be {@literal null}.
+   * @param path the file to write, must not be {@literal null}.
+   * @throws IOException if the file cannot be written
+   */
+  public void write(
+      Stream<?> data, List<? extends Supplier<? extends Stream<?>>> included, Path path)
+      throws IOException {
+    Assert.notNull(path, "path must not be null!");
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      write(data, included, channel);
+    }
+  }
+
+  /**
+   * Writes a document with the given primary data to a channel. The channel is not closed.
+   *
+   * @param data the entities or {@link org.springframework.hateoas.RepresentationModel}s of the
+   *     primary data, must not be {@literal null}.
+   * @param channel the target channel, must not be {@literal null}.
+   * @throws IOException if the channel cannot be written
+   */
+  public void write(Stream<?> data, WritableByteChannel channel) throws IOException {
+    write(data, Collections.emptyList(), channel);
+  }
+
+  /**
+   * Writes a compound document with the given primary data and included resources to a channel.
+   * The channel is not closed.
+   *
+   * @param data the entities or {@link org.springframework.hateoas.RepresentationModel}s of the
+   *     primary data, must not be {@literal null}.
+   * @param included providers of the included entities, each provider is called once, must not be
+   *     {@literal null}.
+   * @param channel the target channel, must not be {@literal null}.
+   * @throws IOException if the channel cannot be written
+   */
+  public void write(
+      Stream<?> data,
+      List<? extends Supplier<? extends Stream<?>>> included,
+      WritableByteChannel channel)
+      throws IOException {
+    Assert.notNull(data, "data must not be null!");
+    Assert.notNull(included, "included must not be null!");
+
+    List<Stream<?>> openedStreams = new ArrayList<>();
+    List<Supplier<Iterator<?>>> includedIterators = new ArrayList<>();
+    for (Supplier<? extends Stream<?>> provider : included) {
+      includedIterators.add(
+          () -> {
+            Stream<?> stream = provider.get();
+            openedStreams.add(stream);
+            return stream.iterator();
+          });
+    }
+
+    try {
+      write(data.iterator(), includedIterators, channel);
+    } finally {
+      openedStreams.forEach(Stream::close);
+    }
+  }
+
+  /**
+   * Writes a compound document with the given primary data and included resources to a channel.
+   * The channel is not closed.
+   *
+   * @param data the entities or {@link org.springframework.hateoas.RepresentationModel}s of the
+   *     primary data, must not be {@literal null}.
+   * @param included providers of the included entities, each provider is called once, must not be
+   *     {@literal null}.
+   * @param channel the target channel, must not be {@literal null}.
+   * @throws IOException if the channel cannot be written
+   */
+  public void write(
+      Iterator<?> data,
+      List<? extends Supplier<? extends Iterator<?>>> included,
+      WritableByteChannel channel)
+      throws IOException {
+    Assert.notNull(data, "data must not be null!");
+    Assert.notNull(included, "included must not be null!");
+    Assert.notNull(channel, "channel must not be null!");
+
+    @Nullable Set<String> writtenResources = included.isEmpty() ? null : new HashSet<>();
+    ChannelOutputStream outputStream = new ChannelOutputStream(channel, bufferSize);
+    try (JsonGenerator gen = jsonMapper.createGenerator(outputStream)) {
+      gen.writeStartObject();
+
+      JsonApiObject jsonApiObject =
+          JsonApiRuntimePlan.getRenderedJsonApiObject(jsonApiConfiguration);
+      if (jsonApiObject != null) {
+        gen.writeName(JsonApiTokens.JSONAPI);
+        objectWriter.writeValue(gen, jsonApiObject);
+      }
+
+      gen.writeName(JsonApiTokens.DATA);
+      gen.writeStartArray();
+      while (data.hasNext()) {
+        writeResource(gen, data.next(), writtenResources);
+      }
+      gen.writeEndArray();
+
+      boolean includedStarted = false;
+      for (Supplier<? extends Iterator<?>> provider : included) {
+        Iterator<?> iterator = provider.get();
+        while (iterator.hasNext()) {
+          Object entity = iterator.next();
+          if (!includedStarted) {
+            gen.writeName(JsonApiTokens.INCLUDED);
+            gen.writeStartArray();
+            includedStarted = true;
+          }
+          writeResource(gen, entity, writtenResources);
+        }
+      }
+      if (includedStarted) {
+        gen.writeEndArray();
+      }
+
+      if (pageLinks != null) {
+        writeLinksWithPageLinks(gen, pageLinks);
+      } else if (links != null && !links.isEmpty()) {
+        gen.writeName(JsonApiTokens.LINKS);
+        objectWriter.writeValue(gen, links);
+      }
+
+      gen.writeEndObject();
+    } catch (JacksonIOException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw e;
+    }
+  }
+
+  private void writeLinksWithPageLinks(JsonGenerator gen, PageLinks pageLinks) {
+    Links otherLinks =
+        links == null
+            ? Links.NONE
+            : links
+                .without(IanaLinkRelations.FIRST)
+                .without(IanaLinkRelations.PREV)
+                .without(IanaLinkRelations.NEXT)
+                .without(IanaLinkRelations.LAST);
+
+    // like the links of a model, an empty links object is not rendered
+    if (otherLinks.isEmpty() && !PageLinkTemplate.hasLinks(pageLinks.metadata())) {
+      return;
+    }
+
+    gen.writeName(JsonApiTokens.LINKS);
+    gen.writeStartObject();
+    linksSerializer.writeLinks(otherLinks, gen);
+    pageLinks
+        .template()
+        .writeLinks(gen, pageLinks.metadata(), jsonApiConfiguration.getLinksNotUrlEncoded());
+    gen.writeEndObject();
+  }
+
+  private static JsonMapper createJsonMapper(JsonApiConfiguration jsonApiConfiguration) {
+    Assert.notNull(jsonApiConfiguration, "jsonApiConfiguration must not be null!");
+    return JsonApiMediaTypeConfiguration.configureJsonMapper(
+            JsonMapper.builder(), jsonApiConfiguration, null)
+        .build();
+  }
+
+  private static JsonApiLinksSerializer createLinksSerializer(
+      JsonApiConfiguration jsonApiConfiguration) {
+    Assert.notNull(jsonApiConfiguration, "jsonApiConfiguration must not be null!");
+    JsonApiLinksSerializer linksSerializer = new JsonApiLinksSerializer();
+    linksSerializer.setJsonApiConfiguration(jsonApiConfiguration);
+    return linksSerializer;
+  }
+
+  private void writeResource(JsonGenerator gen, Object entity, @Nullable Set<String> written) {
+    Optional<JsonApiData> jsonApiData =
+        JsonApiData.extractContent(entity, false, jsonMapper, jsonApiConfiguration, null);
+    if (jsonApiData.isEmpty()) {
+      return;
+    }
+    JsonApiData resource = jsonApiData.get();
+    if (written == null || written.add(resource.getType() + "." + resource.getId())) {
+      objectWriter.writeValue(gen, resource);
+    }
+  }
+
+  private record PageLinks(PageLinkTemplate template, PagedModel.PageMetadata metadata) {}
+
+  /** An {@link OutputStream} writing to a channel through a large, reused direct buffer. */
+  private static final class ChannelOutputStream extends OutputStream {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    ChannelOutputStream(WritableByteChannel channel, int bufferSize) {
+      this.channel = channel;
+      this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (!buffer.hasRemaining()) {
+        drain();
+      }
+      buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      while (length > 0) {
+        if (!buffer.hasRemaining()) {
+          drain();
+        }
+        int chunk = Math.min(length, buffer.remaining());
+        buffer.put(bytes, offset, chunk);
+        offset += chunk;
+        length -= chunk;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+      // the channel is owned by the caller
+      drain();
+    }
+
+    private void drain() throws IOException {
+      buffer.flip();
+      try {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      } finally {
+        buffer.clear();
+      }
+    }
+  }
+}
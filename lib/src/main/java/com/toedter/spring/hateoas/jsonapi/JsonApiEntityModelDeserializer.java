@@ -18,6 +18,7 @@ package com.toedter.spring.hateoas.jsonapi;
 
 import static com.toedter.spring.hateoas.jsonapi.ReflectionUtils.getAllDeclaredFields;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -30,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Links;
@@ -44,6 +46,10 @@ class JsonApiEntityModelDeserializer extends AbstractJsonApiModelDeserializer<En
   public static final String CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL =
       "Cannot deserialize input to EntityModel";
 
+  // Relationship fields with these element types are bound to the resource linkage ids only.
+  private static final Set<Class<?>> LINKAGE_ID_TYPES =
+      Set.of(String.class, Long.class, Integer.class, UUID.class);
+
   public JsonApiEntityModelDeserializer(JsonApiConfiguration jsonApiConfiguration) {
     super(jsonApiConfiguration);
   }
@@ -84,8 +90,16 @@ class JsonApiEntityModelDeserializer extends AbstractJsonApiModelDeserializer<En
             try {
               if (relationship != null) {
                 final Type genericType = field.getGenericType();
-                // Expect collections to always be generic, like "List<Director>".
-                if (genericType instanceof ParameterizedType parameterizedType) {
+                if (field.getType().isArray()) {
+                  // Linkage only, like "long[]", no related objects are created.
+                  List<HashMap<String, Object>> jsonApiRelationships =
+                      getRelationshipData(relationship);
+                  field.set(
+                      content,
+                      createLinkageArray(
+                          field.getType().getComponentType(), jsonApiRelationships));
+                } else if (genericType instanceof ParameterizedType parameterizedType) {
+                  // Expect collections to always be generic, like "List<Director>".
                   ParameterizedType type = parameterizedType;
                   if (Collection.class.isAssignableFrom(field.getType())) {
                     Collection<Object> relationshipCollection;
@@ -94,24 +108,25 @@ class JsonApiEntityModelDeserializer extends AbstractJsonApiModelDeserializer<En
                     } else {
                       relationshipCollection = new ArrayList<>();
                     }
-                    Object data = ((HashMap<?, ?>) relationship).get("data");
-                    List<HashMap<String, Object>> jsonApiRelationships = null;
-                    if (data instanceof List) {
-                      jsonApiRelationships = (List<HashMap<String, Object>>) data;
-                    } else if (data instanceof HashMap) {
-                      HashMap<String, Object> castedData = (HashMap<String, Object>) data;
-                      jsonApiRelationships = Collections.singletonList(castedData);
-                    } else if (data != null) {
-                      throw new IllegalArgumentException(CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL);
-                    }
+                    List<HashMap<String, Object>> jsonApiRelationships =
+                        getRelationshipData(relationship);
 
-                    if (data != null) {
+                    if (jsonApiRelationships != null) {
                       Type typeArgument = type.getActualTypeArguments()[0];
 
-                      for (HashMap<String, Object> entry : jsonApiRelationships) {
-                        Object newInstance =
-                            createRelationship(doc, typeArgument, entry).getContent();
-                        relationshipCollection.add(newInstance);
+                      if (typeArgument instanceof Class<?> idClass
+                          && LINKAGE_ID_TYPES.contains(idClass)) {
+                        // Linkage only, like "List<Long>", no related objects are created.
+                        for (int i = 0; i < jsonApiRelationships.size(); i++) {
+                          relationshipCollection.add(
+                              convertLinkageId(idClass, getLinkageId(jsonApiRelationships, i)));
+                        }
+                      } else {
+                        for (HashMap<String, Object> entry : jsonApiRelationships) {
+                          Object newInstance =
+                              createRelationship(doc, typeArgument, entry).getContent();
+                          relationshipCollection.add(newInstance);
+                        }
                       }
                     }
 
@@ -180,6 +195,81 @@ class JsonApiEntityModelDeserializer extends AbstractJsonApiModelDeserializer<En
     throw new IllegalArgumentException(CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL);
   }
 
+  @Nullable
+  private List<HashMap<String, Object>> getRelationshipData(Object relationship) {
+    Object data = ((HashMap<?, ?>) relationship).get("data");
+    if (data instanceof List) {
+      return (List<HashMap<String, Object>>) data;
+    } else if (data instanceof HashMap) {
+      HashMap<String, Object> castedData = (HashMap<String, Object>) data;
+      return Collections.singletonList(castedData);
+    } else if (data != null) {
+      throw new IllegalArgumentException(CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL);
+    }
+    return null;
+  }
+
+  private Object createLinkageArray(
+      Class<?> componentType, @Nullable List<HashMap<String, Object>> jsonApiRelationships) {
+    int size = jsonApiRelationships != null ? jsonApiRelationships.size() : 0;
+    if (componentType == long.class) {
+      long[] ids = new long[size];
+      for (int i = 0; i < size; i++) {
+        ids[i] = (Long) convertLinkageId(Long.class, getLinkageId(jsonApiRelationships, i));
+      }
+      return ids;
+    }
+    if (componentType == int.class) {
+      int[] ids = new int[size];
+      for (int i = 0; i < size; i++) {
+        ids[i] = (Integer) convertLinkageId(Integer.class, getLinkageId(jsonApiRelationships, i));
+      }
+      return ids;
+    }
+    if (LINKAGE_ID_TYPES.contains(componentType)) {
+      Object[] ids = (Object[]) Array.newInstance(componentType, size);
+      for (int i = 0; i < size; i++) {
+        ids[i] = convertLinkageId(componentType, getLinkageId(jsonApiRelationships, i));
+      }
+      return ids;
+    }
+    throw new IllegalArgumentException(CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL);
+  }
+
+  private Object convertLinkageId(Class<?> idClass, String id) {
+    try {
+      if (idClass == String.class) {
+        return id;
+      } else if (idClass == Long.class) {
+        return Long.valueOf(id);
+      } else if (idClass == Integer.class) {
+        return Integer.valueOf(id);
+      }
+      return UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      // also covers NumberFormatException
+      throw new IllegalArgumentException(
+          CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL
+              + ": resource linkage id \""
+              + id
+              + "\" is not a valid "
+              + idClass.getSimpleName(),
+          e);
+    }
+  }
+
+  private String getLinkageId(List<HashMap<String, Object>> jsonApiRelationships, int index) {
+    // linkage read from the token stream provides the ids without a map per identifier
+    Object id =
+        jsonApiRelationships instanceof JsonApiLinkage linkage
+            ? linkage.getId(index)
+            : jsonApiRelationships.get(index).get("id");
+    if (id == null) {
+      throw new IllegalArgumentException(CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL);
+    }
+    return id.toString();
+  }
+
   @Nullable
   private EntityModel<?> createRelationship(
       JsonApiDocument doc, Type typeArgument, HashMap<String, Object> entry) {
@@ -20,7 +20,7 @@ import org.springframework.hateoas.EntityModel;
 
 class JsonApiEntityModelSerializer extends AbstractJsonApiModelSerializer<EntityModel<?>> {
 
-  public JsonApiEntityModelSerializer(JsonApiConfiguration jsonApiConfiguration) {
-    super(EntityModel.class, jsonApiConfiguration);
+  public JsonApiEntityModelSerializer(JsonApiRuntimePlan runtimePlan) {
+    super(EntityModel.class, runtimePlan);
   }
 }
@@ -16,8 +16,12 @@
 
 package com.toedter.spring.hateoas.jsonapi;
 
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
@@ -26,6 +30,8 @@ import tools.jackson.databind.KeyDeserializer;
 import tools.jackson.databind.SerializationConfig;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.annotation.JsonSerialize;
 import tools.jackson.databind.cfg.HandlerInstantiator;
 import tools.jackson.databind.cfg.MapperConfig;
 import tools.jackson.databind.introspect.Annotated;
@@ -36,22 +42,28 @@ class JsonApiHandlerInstantiator extends HandlerInstantiator {
 
   private final Map<Class<?>, Object> serializers = new HashMap<>();
 
+  // created custom (de)serializers, only used if handler instances are cached
+  private final Map<Class<?>, Object> createdInstances = new ConcurrentHashMap<>();
+
   @Nullable private final AutowireCapableBeanFactory beanFactory;
+  private final boolean handlerInstancesCached;
 
   public JsonApiHandlerInstantiator(
       JsonApiConfiguration jsonApiConfiguration, @Nullable AutowireCapableBeanFactory beanFactory) {
     this.beanFactory = beanFactory;
+    this.handlerInstancesCached = jsonApiConfiguration.isHandlerInstancesCached();
 
+    JsonApiRuntimePlan runtimePlan = JsonApiRuntimePlan.of(jsonApiConfiguration);
     this.serializers.put(
         JsonApiRepresentationModelSerializer.class,
-        new JsonApiRepresentationModelSerializer(jsonApiConfiguration));
+        new JsonApiRepresentationModelSerializer(runtimePlan));
     this.serializers.put(
-        JsonApiEntityModelSerializer.class, new JsonApiEntityModelSerializer(jsonApiConfiguration));
+        JsonApiEntityModelSerializer.class, new JsonApiEntityModelSerializer(runtimePlan));
     this.serializers.put(
         JsonApiCollectionModelSerializer.class,
-        new JsonApiCollectionModelSerializer(jsonApiConfiguration));
+        new JsonApiCollectionModelSerializer(runtimePlan));
     this.serializers.put(
-        JsonApiPagedModelSerializer.class, new JsonApiPagedModelSerializer(jsonApiConfiguration));
+        JsonApiPagedModelSerializer.class, new JsonApiPagedModelSerializer(runtimePlan));
 
     this.serializers.put(
         JsonApiRelationshipSerializer.class,
@@ -69,26 +81,73 @@ class JsonApiHandlerInstantiator extends HandlerInstantiator {
     this.serializers.put(
         JsonApiPagedModelDeserializer.class,
         new JsonApiPagedModelDeserializer(jsonApiConfiguration));
+
+    preInstantiate(jsonApiConfiguration.getClassesWithTypeForClass());
+  }
+
+  /**
+   * Creates the custom serializers, deserializers and key deserializers declared on the given
+   * model classes and their fields, so that they are not created while the first request is
+   * serialized.
+   *
+   * @param modelClasses must not be {@literal null}.
+   */
+  void preInstantiate(Collection<Class<?>> modelClasses) {
+    if (!handlerInstancesCached) {
+      return;
+    }
+
+    for (Class<?> modelClass : modelClasses) {
+      preInstantiate(modelClass);
+      for (Field field : ReflectionUtils.getAllDeclaredFields(modelClass)) {
+        preInstantiate(field);
+      }
+    }
+  }
+
+  private void preInstantiate(AnnotatedElement element) {
+    JsonSerialize jsonSerialize = element.getAnnotation(JsonSerialize.class);
+    if (jsonSerialize != null) {
+      preInstantiate(jsonSerialize.using(), ValueSerializer.None.class);
+      preInstantiate(jsonSerialize.keyUsing(), ValueSerializer.None.class);
+      preInstantiate(jsonSerialize.contentUsing(), ValueSerializer.None.class);
+    }
+
+    JsonDeserialize jsonDeserialize = element.getAnnotation(JsonDeserialize.class);
+    if (jsonDeserialize != null) {
+      preInstantiate(jsonDeserialize.using(), ValueDeserializer.None.class);
+      preInstantiate(jsonDeserialize.keyUsing(), KeyDeserializer.None.class);
+      preInstantiate(jsonDeserialize.contentUsing(), ValueDeserializer.None.class);
+    }
+  }
+
+  private void preInstantiate(Class<?> handlerClass, Class<?> noneClass) {
+    if (handlerClass != noneClass && !serializers.containsKey(handlerClass)) {
+      findCachedInstance(handlerClass);
+    }
   }
 
   @Override
   public ValueDeserializer<?> deserializerInstance(
       DeserializationConfig config, Annotated annotated, Class<?> deserClass) {
-    return (ValueDeserializer<?>) findInstance(deserClass);
+    return (ValueDeserializer<?>) findCachedInstance(deserClass);
   }
 
   @Override
   public KeyDeserializer keyDeserializerInstance(
       DeserializationConfig config, Annotated annotated, Class<?> keyDeserClass) {
-    return (KeyDeserializer) findInstance(keyDeserClass);
+    return (KeyDeserializer) findCachedInstance(keyDeserClass);
   }
 
   @Override
   public ValueSerializer<?> serializerInstance(
       SerializationConfig config, Annotated annotated, Class<?> serClass) {
-    return (ValueSerializer<?>) findInstance(serClass);
+    return (ValueSerializer<?>) findCachedInstance(serClass);
   }
 
+  // type resolver builders and type id resolvers are initialized by Jackson for the type they are
+  // used with, so they are never shared.
+
   @Override
   public TypeResolverBuilder<?> typeResolverBuilderInstance(
       MapperConfig<?> config, Annotated annotated, Class<?> builderClass) {
@@ -101,6 +160,28 @@ class JsonApiHandlerInstantiator extends HandlerInstantiator {
     return (TypeIdResolver) findInstance(resolverClass);
   }
 
+  private Object findCachedInstance(Class<?> type) {
+    if (!handlerInstancesCached) {
+      return findInstance(type);
+    }
+
+    Object result = serializers.get(type);
+    if (result != null) {
+      return result;
+    }
+
+    result = createdInstances.get(type);
+    if (result == null) {
+      // not computeIfAbsent, since creating a bean might ask for other instances
+      Object created = createInstance(type);
+      result = createdInstances.putIfAbsent(type, created);
+      if (result == null) {
+        result = created;
+      }
+    }
+    return result;
+  }
+
   private Object findInstance(Class<?> type) {
     Object result = serializers.get(type);
 
@@ -108,6 +189,10 @@ class JsonApiHandlerInstantiator extends HandlerInstantiator {
       return result;
     }
 
+    return createInstance(type);
+  }
+
+  private Object createInstance(Class<?> type) {
     if (beanFactory != null) {
       return beanFactory.createBean(type);
     }
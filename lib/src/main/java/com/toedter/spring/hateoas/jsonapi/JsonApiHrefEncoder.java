@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * URI-encodes link hrefs like {@link UriUtils#encodeQuery(String, java.nio.charset.Charset)}.
+ * Hrefs that contain only characters allowed in a query are returned as they are, without
+ * encoding. Other hrefs are cached, since the same hrefs (e.g. collection self links or pagination
+ * links) are rendered again and again. The cache is cleared when it reaches its maximum size.
+ */
+class JsonApiHrefEncoder {
+
+  static final int DEFAULT_MAX_SIZE = 1024;
+
+  private final int maxSize;
+  private final Map<String, String> encodedHrefs = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  JsonApiHrefEncoder() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  JsonApiHrefEncoder(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  String encode(String href) {
+    if (!needsEncoding(href)) {
+      return href;
+    }
+
+    String encodedHref = encodedHrefs.get(href);
+    if (encodedHref != null) {
+      hits.increment();
+      return encodedHref;
+    }
+
+    misses.increment();
+    encodedHref = UriUtils.encodeQuery(href, StandardCharsets.UTF_8);
+    if (encodedHrefs.size() >= maxSize) {
+      encodedHrefs.clear();
+    }
+    encodedHrefs.put(href, encodedHref);
+    return encodedHref;
+  }
+
+  long getHits() {
+    return hits.sum();
+  }
+
+  long getMisses() {
+    return misses.sum();
+  }
+
+  int size() {
+    return encodedHrefs.size();
+  }
+
+  static boolean needsEncoding(String href) {
+    for (int i = 0; i < href.length(); i++) {
+      if (!isAllowedInQuery(href.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // RFC 3986 pchar, '/' and '?', the characters UriUtils.encodeQuery does not encode
+  private static boolean isAllowedInQuery(char c) {
+    if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+      return true;
+    }
+    return switch (c) {
+      case '-', '.', '_', '~', '!', '$', '&', '\'', '(', ')', '*', '+', ',', ';', '=', ':', '@',
+          '/', '?' ->
+          true;
+      default -> false;
+    };
+  }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves JSON:API {@literal include} paths like {@literal directors.movies} to the resources of
+ * a compound document. The include paths are parsed into a tree that is walked breadth-first. For
+ * each level, the ids of all required resources are collected first, and then each resource class
+ * is loaded with a single call of its batch loader. So a compound document needs one query per
+ * resource class and level instead of one query per resource. Resources are loaded only once,
+ * and resources of the primary data are never included again.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * JsonApiIncludeResolver includeResolver = JsonApiIncludeResolver.includeResolver()
+ *     .resource(Director.class, Director::getId, directorRepository::findAllById)
+ *     .resource(Movie.class, Movie::getId, movieRepository::findAllById)
+ *     .relationship(Movie.class, "directors", Director.class, Movie::getDirectorIds)
+ *     .relationship(Director.class, "movies", Movie.class, Director::getMovieIds);
+ *
+ * jsonApiModel().model(pagedModel).included(includeResolver, movies, include).build();
+ * }</pre>
+ *
+ * @author Kai Toedter
+ */
+public class JsonApiIncludeResolver {
+
+  private final Map<Class<?>, ResourceDefinition> resources = new LinkedHashMap<>();
+  private final Map<Class<?>, Map<String, RelationshipDefinition>> relationships =
+      new HashMap<>();
+
+  @Nullable private Executor executor;
+  private Duration timeout = Duration.ZERO;
+
+  private JsonApiIncludeResolver() {}
+
+  /**
+   * Creates a new {@link JsonApiIncludeResolver}.
+   *
+   * @return will never be {@literal null}.
+   */
+  public static JsonApiIncludeResolver includeResolver() {
+    return new JsonApiIncludeResolver();
+  }
+
+  /**
+   * Registers a resource class that can be included.
+   *
+   * @param clazz the resource class, must not be {@literal null}.
+   * @param idExtractor extracts the id of a resource, must not be {@literal null}.
+   * @param batchLoader loads all resources with the given ids in one call, must not be {@literal
+   *     null}. Missing resources are skipped.
+   * @param <T> the resource type
+   * @param <I> the id type
+   * @return will never be {@literal null}.
+   */
+  @SuppressWarnings("unchecked")
+  public <T, I> JsonApiIncludeResolver resource(
+      Class<T> clazz,
+      Function<? super T, ? extends I> idExtractor,
+      Function<Set<I>, ? extends Iterable<? extends T>> batchLoader) {
+    Assert.notNull(clazz, "clazz must not be null!");
+    Assert.notNull(idExtractor, "idExtractor must not be null!");
+    Assert.notNull(batchLoader, "batchLoader must not be null!");
+
+    resources.put(
+        clazz,
+        new ResourceDefinition(
+            clazz,
+            (Function<Object, Object>) idExtractor,
+            ids -> (Iterable<Object>) batchLoader.apply((Set<I>) ids)));
+    return this;
+  }
+
+  /**
+   * Registers a relationship that can be used in include paths.
+   *
+   * @param sourceClass the class of the resources that own the relationship, must not be {@literal
+   *     null}.
+   * @param name the relationship name as used in include paths, must not be {@literal null}.
+   * @param targetClass the class of the related resources, must be registered with {@link
+   *     #resource(Class, Function, Function)}.
+   * @param relatedIds extracts the ids of the related resources, must not be {@literal null}. May
+   *     return {@literal null} for no related resources.
+   * @param <S> the source resource type
+   * @param <I> the id type of the related resources
+   * @return will never be {@literal null}.
+   */
+  @SuppressWarnings("unchecked")
+  public <S, I> JsonApiIncludeResolver relationship(
+      Class<S> sourceClass,
+      String name,
+      Class<?> targetClass,
+      Function<? super S, ? extends @Nullable Collection<? extends I>> relatedIds) {
+    Assert.notNull(sourceClass, "sourceClass must not be null!");
+    Assert.hasText(name, "name must not be null or empty!");
+    Assert.notNull(relatedIds, "relatedIds must not be null!");
+
+    ResourceDefinition target = resources.get(targetClass);
+    Assert.notNull(target, "targetClass must be registered as resource first!");
+
+    relationships
+        .computeIfAbsent(sourceClass, key -> new HashMap<>())
+        .put(
+            name,
+            new RelationshipDefinition(
+                target, (Function<Object, @Nullable Collection<?>>) relatedIds));
+    return this;
+  }
+
+  /**
+   * Loads the batches of different resource classes of one level concurrently with the given
+   * executor. For example, the branches of {@literal include=directors,genres,studios} are then
+   * loaded in parallel. The results are merged in the same order as with sequential loading.
+   *
+   * <p>On Java 21 and later, an executor with virtual threads is a good fit, like {@code
+   * Executors.newVirtualThreadPerTaskExecutor()}.
+   *
+   * @param executor the executor running the batch loaders, must not be {@literal null}.
+   * @param timeout the maximum time to resolve all include paths of one call of {@link
+   *     #resolve(Collection, String...)}, must be positive. Loaders still running after the timeout
+   *     are interrupted.
+   * @return will never be {@literal null}.
+   */
+  public JsonApiIncludeResolver concurrentLoading(Executor executor, Duration timeout) {
+    Assert.notNull(executor, "executor must not be null!");
+    Assert.notNull(timeout, "timeout must not be null!");
+    Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive!");
+
+    this.executor = executor;
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * Resolves the given include paths for the given primary data.
+   *
+   * @param primaryData the primary data, plain objects or {@link EntityModel}s, must not be
+   *     {@literal null}.
+   * @param include the values of the {@literal include} request parameter, each a comma separated
+   *     list of dot separated relationship paths. Can be {@literal null}.
+   * @return the resources to include, in the order they were loaded.
+   * @throws IllegalArgumentException if an include path contains an unknown relationship
+   * @throws IllegalStateException if concurrent loading times out or is interrupted
+   */
+  public List<Object> resolve(Collection<?> primaryData, @Nullable String... include) {
+    Assert.notNull(primaryData, "primaryData must not be null!");
+
+    IncludePath root = IncludePath.parse(include);
+    if (root.children.isEmpty()) {
+      return Collections.emptyList();
+    }
+    long deadline = System.nanoTime() + timeout.toNanos();
+
+    // primary resources are neither loaded nor included again
+    Set<ResourceKey> knownResources = new HashSet<>();
+    Map<ResourceKey, Object> loadedResources = new HashMap<>();
+    List<Object> primaryEntities = new ArrayList<>();
+    for (Object object : primaryData) {
+      Object entity = unwrap(object);
+      if (entity != null) {
+        primaryEntities.add(entity);
+        ResourceDefinition definition = findResource(entity.getClass());
+        if (definition != null) {
+          ResourceKey key = new ResourceKey(definition, definition.idExtractor.apply(entity));
+          knownResources.add(key);
+          loadedResources.put(key, entity);
+        }
+      }
+    }
+
+    List<Object> included = new ArrayList<>();
+    Map<IncludePath, Collection<Object>> level = Map.of(root, primaryEntities);
+
+    while (!level.isEmpty()) {
+      // collect the required ids of this level, per include path and per resource class
+      Map<IncludePath, Set<ResourceKey>> requested = new LinkedHashMap<>();
+      Map<ResourceDefinition, Set<Object>> idsToLoad = new LinkedHashMap<>();
+      for (Map.Entry<IncludePath, Collection<Object>> entry : level.entrySet()) {
+        for (IncludePath child : entry.getKey().children.values()) {
+          Set<ResourceKey> keys = requested.computeIfAbsent(child, key -> new LinkedHashSet<>());
+          for (Object entity : entry.getValue()) {
+            RelationshipDefinition relationship = findRelationship(entity.getClass(), child);
+            Collection<?> ids = relationship.relatedIds.apply(entity);
+            if (ids == null) {
+              continue;
+            }
+            for (Object id : ids) {
+              ResourceKey key = new ResourceKey(relationship.target, id);
+              keys.add(key);
+              if (!loadedResources.containsKey(key)) {
+                idsToLoad.computeIfAbsent(relationship.target, k -> new LinkedHashSet<>()).add(id);
+              }
+            }
+          }
+        }
+      }
+
+      // one batch call per resource class, merged in a deterministic order
+      for (Map.Entry<ResourceDefinition, Iterable<Object>> entry :
+          loadBatches(idsToLoad, deadline).entrySet()) {
+        ResourceDefinition definition = entry.getKey();
+        for (Object entity : entry.getValue()) {
+          ResourceKey key = new ResourceKey(definition, definition.idExtractor.apply(entity));
+          loadedResources.put(key, entity);
+          if (knownResources.add(key)) {
+            included.add(entity);
+          }
+        }
+      }
+
+      // continue only with paths that have children, each path is walked once
+      Map<IncludePath, Collection<Object>> nextLevel = new LinkedHashMap<>();
+      for (Map.Entry<IncludePath, Set<ResourceKey>> entry : requested.entrySet()) {
+        if (entry.getKey().children.isEmpty()) {
+          continue;
+        }
+        List<Object> entities = new ArrayList<>();
+        for (ResourceKey key : entry.getValue()) {
+          Object entity = loadedResources.get(key);
+          if (entity != null) {
+            entities.add(entity);
+          }
+        }
+        nextLevel.put(entry.getKey(), entities);
+      }
+      level = nextLevel;
+    }
+
+    return included;
+  }
+
+  private Map<ResourceDefinition, Iterable<Object>> loadBatches(
+      Map<ResourceDefinition, Set<Object>> idsToLoad, long deadline) {
+    Map<ResourceDefinition, Iterable<Object>> batches = new LinkedHashMap<>();
+    if (executor == null) {
+      for (Map.Entry<ResourceDefinition, Set<Object>> entry : idsToLoad.entrySet()) {
+        Set<Object> ids = Collections.unmodifiableSet(entry.getValue());
+        batches.put(entry.getKey(), entry.getKey().batchLoader.apply(ids));
+      }
+      return batches;
+    }
+
+    Map<ResourceDefinition, FutureTask<Iterable<Object>>> tasks = new LinkedHashMap<>();
+    try {
+      for (Map.Entry<ResourceDefinition, Set<Object>> entry : idsToLoad.entrySet()) {
+        Set<Object> ids = Collections.unmodifiableSet(entry.getValue());
+        FutureTask<Iterable<Object>> task =
+            new FutureTask<>(() -> entry.getKey().batchLoader.apply(ids));
+        tasks.put(entry.getKey(), task);
+        executor.execute(task);
+      }
+      for (Map.Entry<ResourceDefinition, FutureTask<Iterable<Object>>> entry : tasks.entrySet()) {
+        long remaining = deadline - System.nanoTime();
+        batches.put(entry.getKey(), entry.getValue().get(remaining, TimeUnit.NANOSECONDS));
+      }
+      return batches;
+    } catch (TimeoutException e) {
+      throw new IllegalStateException(
+          "Loading included resources timed out after " + timeout.toMillis() + " ms", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Loading included resources was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Loading included resources failed", e.getCause());
+    } finally {
+      // cancels and interrupts the loaders still running, completed tasks are not affected
+      tasks.values().forEach(task -> task.cancel(true));
+    }
+  }
+
+  private @Nullable ResourceDefinition findResource(Class<?> clazz) {
+    for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+      ResourceDefinition definition = resources.get(current);
+      if (definition != null) {
+        return definition;
+      }
+    }
+    return null;
+  }
+
+  private RelationshipDefinition findRelationship(Class<?> clazz, IncludePath path) {
+    for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+      Map<String, RelationshipDefinition> definitions = relationships.get(current);
+      if (definitions != null && definitions.containsKey(path.name)) {
+        return definitions.get(path.name);
+      }
+    }
+    throw new IllegalArgumentException(
+        "Unknown include path " + path.getPath() + " for " + clazz.getSimpleName());
+  }
+
+  private static @Nullable Object unwrap(@Nullable Object object) {
+    if (object instanceof JsonApiModel jsonApiModel) {
+      object = jsonApiModel.getContent();
+    }
+    if (object instanceof EntityModel<?> entityModel) {
+      object = entityModel.getContent();
+    }
+    return object;
+  }
+
+  private record ResourceDefinition(
+      Class<?> clazz,
+      Function<Object, Object> idExtractor,
+      Function<Set<Object>, Iterable<Object>> batchLoader) {}
+
+  private record RelationshipDefinition(
+      ResourceDefinition target, Function<Object, @Nullable Collection<?>> relatedIds) {}
+
+  private record ResourceKey(ResourceDefinition definition, Object id) {}
+
+  /** A node of the include path tree, compared by identity. */
+  private static final class IncludePath {
+
+    @Nullable private final IncludePath parent;
+    private final String name;
+    private final Map<String, IncludePath> children = new LinkedHashMap<>();
+
+    private IncludePath(@Nullable IncludePath parent, String name) {
+      this.parent = parent;
+      this.name = name;
+    }
+
+    static IncludePath parse(@Nullable String... include) {
+      IncludePath root = new IncludePath(null, "");
+      if (include == null) {
+        return root;
+      }
+      for (String parameter : include) {
+        if (parameter == null) {
+          continue;
+        }
+        for (String path : StringUtils.commaDelimitedListToStringArray(parameter)) {
+          IncludePath node = root;
+          for (String name : StringUtils.delimitedListToStringArray(path.trim(), ".")) {
+            if (!StringUtils.hasText(name)) {
+              throw new IllegalArgumentException("Invalid include path: " + path);
+            }
+            IncludePath parent = node;
+            node = parent.children.computeIfAbsent(name, key -> new IncludePath(parent, key));
+          }
+        }
+      }
+      return root;
+    }
+
+    String getPath() {
+      return parent == null || parent.parent == null ? name : parent.getPath() + "." + name;
+    }
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.Arrays;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.sym.PropertyNameMatcher;
+import tools.jackson.core.util.JsonParserDelegate;
+
+/**
+ * A {@link JsonParser} that enforces the input limits of a {@link JsonApiConfiguration} while the
+ * tokens of a JSON:API document are read. It keeps a small stack of the structure it is in (top
+ * level document, primary data, included, attributes, relationships, and relationship linkage), so
+ * that every limit is checked as soon as the violating token is read.
+ */
+class JsonApiInputGuardParser extends JsonParserDelegate {
+
+  private static final int OTHER = 0;
+  private static final int DOCUMENT = 1;
+  private static final int DATA_ARRAY = 2;
+  private static final int INCLUDED_ARRAY = 3;
+  private static final int RESOURCE = 4;
+  private static final int ATTRIBUTES = 5;
+  private static final int RELATIONSHIPS = 6;
+  private static final int RELATIONSHIP = 7;
+  private static final int LINKAGE_ARRAY = 8;
+
+  private final JsonApiConfiguration jsonApiConfiguration;
+
+  private int[] kinds = new int[16];
+  private int[] counts = new int[16];
+  private int depth;
+  private int primaryResources;
+  private int includedResources;
+
+  JsonApiInputGuardParser(JsonParser parser, JsonApiConfiguration jsonApiConfiguration) {
+    this(parser, jsonApiConfiguration, false);
+  }
+
+  /**
+   * Creates a guard for a document or, if {@code resourceObject} is {@literal true}, for a single
+   * resource object that is read as primary data, e.g. a line of NDJSON.
+   */
+  JsonApiInputGuardParser(
+      JsonParser parser, JsonApiConfiguration jsonApiConfiguration, boolean resourceObject) {
+    super(parser);
+    this.jsonApiConfiguration = jsonApiConfiguration;
+    if (parser.currentToken() == JsonToken.START_OBJECT) {
+      if (resourceObject) {
+        push(RESOURCE);
+        check(++primaryResources, jsonApiConfiguration.getMaxPrimaryResources(), "primary data");
+      } else {
+        push(DOCUMENT);
+      }
+    }
+  }
+
+  @Override
+  public JsonToken nextToken() {
+    return track(delegate.nextToken());
+  }
+
+  @Override
+  public JsonToken nextValue() {
+    JsonToken token = nextToken();
+    if (token == JsonToken.PROPERTY_NAME) {
+      token = nextToken();
+    }
+    return token;
+  }
+
+  // the typed next...Value() methods are used by Jackson's String array and collection
+  // deserializers, so they have to be tracked like nextToken()
+
+  @Override
+  public String nextStringValue() {
+    return nextToken() == JsonToken.VALUE_STRING ? delegate.getValueAsString() : null;
+  }
+
+  @Override
+  public int nextIntValue(int defaultValue) {
+    return nextToken() == JsonToken.VALUE_NUMBER_INT ? delegate.getIntValue() : defaultValue;
+  }
+
+  @Override
+  public long nextLongValue(long defaultValue) {
+    return nextToken() == JsonToken.VALUE_NUMBER_INT ? delegate.getLongValue() : defaultValue;
+  }
+
+  @Override
+  public Boolean nextBooleanValue() {
+    JsonToken token = nextToken();
+    if (token == JsonToken.VALUE_TRUE) {
+      return Boolean.TRUE;
+    }
+    if (token == JsonToken.VALUE_FALSE) {
+      return Boolean.FALSE;
+    }
+    return null;
+  }
+
+  @Override
+  public String nextName() {
+    String name = delegate.nextName();
+    track(delegate.currentToken());
+    return name;
+  }
+
+  @Override
+  public boolean nextName(SerializableString str) {
+    boolean matches = delegate.nextName(str);
+    track(delegate.currentToken());
+    return matches;
+  }
+
+  @Override
+  public int nextNameMatch(PropertyNameMatcher matcher) {
+    int match = delegate.nextNameMatch(matcher);
+    track(delegate.currentToken());
+    return match;
+  }
+
+  @Override
+  public JsonParser skipChildren() {
+    JsonToken token = delegate.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      // skipped content is never materialized, so it is not checked
+      delegate.skipChildren();
+      track(delegate.currentToken());
+    }
+    return this;
+  }
+
+  private JsonToken track(JsonToken token) {
+    if (token == null) {
+      return null;
+    }
+    switch (token) {
+      case START_OBJECT -> startStructure(true);
+      case START_ARRAY -> startStructure(false);
+      case END_OBJECT, END_ARRAY -> depth--;
+      case PROPERTY_NAME -> {
+        if (depth > 0 && kinds[depth - 1] == ATTRIBUTES) {
+          int attributes = ++counts[depth - 1];
+          check(attributes, jsonApiConfiguration.getMaxAttributes(), "attributes of a resource");
+        }
+      }
+      default -> {
+        // scalar values do not change the structure
+      }
+    }
+    return token;
+  }
+
+  private void startStructure(boolean isObject) {
+    int parentKind = depth > 0 ? kinds[depth - 1] : OTHER;
+    String name = depth > 0 ? delegate.currentName() : null;
+    int kind = OTHER;
+
+    if (depth == 0) {
+      kind = isObject ? DOCUMENT : OTHER;
+    } else if (parentKind == DOCUMENT && "data".equals(name)) {
+      if (isObject) {
+        kind = RESOURCE;
+        check(++primaryResources, jsonApiConfiguration.getMaxPrimaryResources(), "primary data");
+      } else {
+        kind = DATA_ARRAY;
+      }
+    } else if (parentKind == DOCUMENT && "included".equals(name) && !isObject) {
+      kind = INCLUDED_ARRAY;
+    } else if (parentKind == DATA_ARRAY && isObject) {
+      kind = RESOURCE;
+      check(++primaryResources, jsonApiConfiguration.getMaxPrimaryResources(), "primary data");
+    } else if (parentKind == INCLUDED_ARRAY && isObject) {
+      kind = RESOURCE;
+      check(++includedResources, jsonApiConfiguration.getMaxIncludedResources(), "included");
+    } else if (parentKind == RESOURCE && "attributes".equals(name) && isObject) {
+      kind = ATTRIBUTES;
+    } else if (parentKind == RESOURCE && "relationships".equals(name) && isObject) {
+      kind = RELATIONSHIPS;
+    } else if (parentKind == RELATIONSHIPS && isObject) {
+      kind = RELATIONSHIP;
+    } else if (parentKind == RELATIONSHIP && "data".equals(name) && !isObject) {
+      kind = LINKAGE_ARRAY;
+    } else if (parentKind == LINKAGE_ARRAY) {
+      int linkage = ++counts[depth - 1];
+      check(
+          linkage,
+          jsonApiConfiguration.getMaxRelationshipLinkage(),
+          "resource linkage of a relationship");
+    }
+
+    push(kind);
+    check(depth, jsonApiConfiguration.getMaxNestingDepth(), "nesting depth");
+  }
+
+  private void push(int kind) {
+    if (depth == kinds.length) {
+      kinds = Arrays.copyOf(kinds, depth * 2);
+      counts = Arrays.copyOf(counts, depth * 2);
+    }
+    kinds[depth] = kind;
+    counts[depth] = 0;
+    depth++;
+  }
+
+  private void check(int value, int limit, String limitName) {
+    if (value > limit) {
+      throw new JsonApiInputLimitExceededException(
+          this,
+          "JSON:API input limit exceeded: " + limitName + " must not exceed " + limit,
+          delegate.streamReadContext().pathAsPointer().toString());
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import lombok.Getter;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.exc.StreamReadException;
+
+/**
+ * Thrown while parsing an incoming JSON:API document, when one of the input limits configured in
+ * {@link JsonApiConfiguration} is exceeded. The parsing stops immediately, so the rest of the
+ * document is not read.
+ *
+ * <p>The exception provides a JSON:API error document that can be returned to the client, e.g. in
+ * a Spring {@code @ExceptionHandler}. Note that the exception might be wrapped by Jackson or Spring
+ * exceptions, like {@code HttpMessageNotReadableException}.
+ *
+ * @author Kai Toedter
+ */
+public class JsonApiInputLimitExceededException extends StreamReadException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Gets the JSON:API errors describing the exceeded input limit.
+   *
+   * @return the JSON:API errors, will never be {@literal null}.
+   */
+  @Getter private final transient JsonApiErrors errors;
+
+  JsonApiInputLimitExceededException(JsonParser parser, String message, String sourcePointer) {
+    super(parser, message);
+    this.errors =
+        JsonApiErrors.create()
+            .withError(
+                JsonApiError.create()
+                    .withStatus("400")
+                    .withTitle("JSON:API input limit exceeded")
+                    .withDetail(message)
+                    .withSourcePointer(sourcePointer));
+  }
+}
@@ -20,11 +20,14 @@ import static com.toedter.spring.hateoas.jsonapi.MediaTypes.JSON_API;
 
 import java.io.InputStream;
 import java.util.Optional;
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.http.MediaType;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.json.JsonMapper;
 
 /**
@@ -35,6 +38,7 @@ import tools.jackson.databind.json.JsonMapper;
 public class JsonApiLinkDiscoverer implements LinkDiscoverer {
 
   private final JsonMapper mapper;
+  @Nullable private volatile DiscoveredLinks lastDiscoveredLinks;
 
   /** Constructor for {@link MediaTypes#JSON_API}. */
   public JsonApiLinkDiscoverer() {
@@ -100,40 +104,59 @@ public class JsonApiLinkDiscoverer implements LinkDiscoverer {
   }
 
   /**
-   * Deserialize the entire document to find links.
+   * Stream the document until the top-level links are found. The result for the last given
+   * representation is memoized, since link discovery (e.g. Traverson) often looks up several
+   * relations in the same representation.
    *
    * @param json the json input
    * @return the Links
    */
   private Links getLinks(String json) {
-    try {
-      JsonApiDocument jsonApiDocument = this.mapper.readValue(json, JsonApiDocument.class);
-      final Links links = jsonApiDocument.getLinks();
-      if (links != null) {
-        return links;
-      }
-      return Links.NONE;
+    DiscoveredLinks discoveredLinks = this.lastDiscoveredLinks;
+    if (discoveredLinks != null && discoveredLinks.representation().equals(json)) {
+      return discoveredLinks.links();
+    }
+
+    try (JsonParser parser = this.mapper.createParser(json)) {
+      Links links = readTopLevelLinks(parser);
+      this.lastDiscoveredLinks = new DiscoveredLinks(json, links);
+      return links;
     } catch (Exception e) {
       throw new IllegalArgumentException("Cannot get links from JSON", e);
     }
   }
 
   /**
-   * Deserialize the entire JSON:API document to find links.
+   * Stream the JSON:API document until the top-level links are found.
    *
    * @param stream the json input as stream
    * @return the Links
    */
   private Links getLinks(InputStream stream) {
-    try {
-      JsonApiDocument jsonApiDocument = this.mapper.readValue(stream, JsonApiDocument.class);
-      final Links links = jsonApiDocument.getLinks();
-      if (links != null) {
-        return links;
-      }
-      return Links.NONE;
+    try (JsonParser parser = this.mapper.createParser(stream)) {
+      return readTopLevelLinks(parser);
     } catch (Exception e) {
       throw new IllegalArgumentException("Cannot get links from InputStream", e);
     }
   }
+
+  private Links readTopLevelLinks(JsonParser parser) {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException("JSON:API document must be a JSON object");
+    }
+
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      String name = parser.currentName();
+      JsonToken token = parser.nextToken();
+      if ("links".equals(name) && token == JsonToken.START_OBJECT) {
+        Links links = parser.readValueAs(Links.class);
+        return links != null ? links : Links.NONE;
+      }
+      // data, included, meta, etc. are not needed for link discovery
+      parser.skipChildren();
+    }
+    return Links.NONE;
+  }
+
+  private record DiscoveredLinks(String representation, Links links) {}
 }
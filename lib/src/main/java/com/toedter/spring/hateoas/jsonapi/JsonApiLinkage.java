@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The resource linkage of a to-many relationship, read directly from the token stream. Ids and
+ * types are kept in arrays, so binding the linkage to ids does not create an object per resource
+ * identifier. A map per resource identifier is only created if the linkage is accessed as a list,
+ * e.g. to create the related resources.
+ *
+ * @author Kai Toedter
+ */
+class JsonApiLinkage extends AbstractList<HashMap<String, Object>> {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private @Nullable String[] ids = new String[INITIAL_CAPACITY];
+  private @Nullable String[] types = new String[INITIAL_CAPACITY];
+  // additional members like "meta", only allocated if a resource identifier has them
+  private Map<String, Object> @Nullable [] members;
+  private int size;
+
+  void add(@Nullable String id, @Nullable String type, @Nullable Map<String, Object> others) {
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size * 2);
+      types = Arrays.copyOf(types, size * 2);
+      if (members != null) {
+        members = Arrays.copyOf(members, size * 2);
+      }
+    }
+    ids[size] = id;
+    types[size] = type;
+    if (others != null) {
+      if (members == null) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object>[] newMembers = new Map[ids.length];
+        members = newMembers;
+      }
+      members[size] = others;
+    }
+    size++;
+  }
+
+  @Nullable
+  String getId(int index) {
+    checkIndex(index);
+    return ids[index];
+  }
+
+  @Override
+  public HashMap<String, Object> get(int index) {
+    checkIndex(index);
+    HashMap<String, Object> identifier = new HashMap<>();
+    if (members != null && members[index] != null) {
+      identifier.putAll(members[index]);
+    }
+    if (ids[index] != null) {
+      identifier.put("id", ids[index]);
+    }
+    if (types[index] != null) {
+      identifier.put("type", types[index]);
+    }
+    return identifier;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
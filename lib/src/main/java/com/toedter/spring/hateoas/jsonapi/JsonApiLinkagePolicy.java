@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+/**
+ * Determines whether the resource linkage ({@literal data}) of a relationship is rendered. The
+ * JSON:API specification allows to omit the linkage and to render only the relationship {@literal
+ * links} and {@literal meta}, unless the related resources are included.
+ *
+ * @see JsonApiModelBuilder#relationship(String, java.util.function.Supplier, JsonApiLinkagePolicy)
+ */
+public enum JsonApiLinkagePolicy {
+  /** The linkage is always rendered. */
+  ALWAYS,
+  /**
+   * The linkage is only rendered if the relationship is requested by the {@literal include}
+   * parameter or listed in the sparse fieldset of the resource type. Otherwise, the data is not
+   * even retrieved.
+   */
+  WHEN_INCLUDED,
+  /** The linkage is never rendered, only the {@literal links} and {@literal meta}. */
+  LINKS_ONLY
+}
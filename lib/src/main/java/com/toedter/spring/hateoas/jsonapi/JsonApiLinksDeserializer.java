@@ -17,19 +17,20 @@
 package com.toedter.spring.hateoas.jsonapi;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.DeserializationContext;
-import tools.jackson.databind.JavaType;
 import tools.jackson.databind.deser.std.StdDeserializer;
 
 class JsonApiLinksDeserializer extends StdDeserializer<Links> {
 
+  private static final String HREF = "href";
+  private static final String META = "meta";
   private static final String HREFLANG = "hreflang";
   private static final String TITLE = "title";
   private static final String TYPE = "type";
@@ -44,72 +45,93 @@ class JsonApiLinksDeserializer extends StdDeserializer<Links> {
 
   @Override
   public Links deserialize(JsonParser jp, DeserializationContext ctxt) {
-    JavaType type =
-        ctxt.getTypeFactory().constructMapType(HashMap.class, String.class, Object.class);
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    if (token != JsonToken.PROPERTY_NAME && token != JsonToken.END_OBJECT) {
+      return (Links) ctxt.handleUnexpectedToken(Links.class, jp);
+    }
+
     List<Link> links = new ArrayList<>();
-    Map<String, Object> jsonApiLinks = jp.readValueAs(type);
-    jsonApiLinks.forEach(
-        (rel, object) -> {
-          if (object instanceof List) {
-            for (Object linkObject : (List<?>) object) {
-              deserializeLink(links, rel, linkObject);
-            }
-          } else {
-            deserializeLink(links, rel, object);
-          }
-        });
+    for (; token == JsonToken.PROPERTY_NAME; token = jp.nextToken()) {
+      String rel = jp.currentName();
+      token = jp.nextToken();
+      if (token == JsonToken.START_ARRAY) {
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+          readLink(jp, links, rel);
+        }
+      } else {
+        readLink(jp, links, rel);
+      }
+    }
     return Links.of(links);
   }
 
-  private void deserializeLink(List<Link> links, String rel, Object linkObject) {
-    if (linkObject instanceof String) {
-      links.add(Link.of(linkObject.toString(), rel));
-    } else if (linkObject instanceof LinkedHashMap linkedHashMap) {
-      Object href = linkedHashMap.get("href");
-      Object meta = linkedHashMap.get("meta");
-      if (href instanceof String) {
-        Link link = Link.of(href.toString(), rel);
-        if (meta instanceof LinkedHashMap linkedHashMapMeta) {
-          LinkedHashMap<String, String> attributes = linkedHashMapMeta;
-          link = getLink(attributes, link);
-
-          if (attributes.containsKey(MEDIA)) {
-            link = link.withMedia(attributes.get(MEDIA));
-          }
-
-          if (attributes.containsKey(DEPRECATION)) {
-            link = link.withDeprecation(attributes.get(DEPRECATION));
-          }
-
-          if (attributes.containsKey(PROFILE)) {
-            link = link.withProfile(attributes.get(PROFILE));
-          }
+  private void readLink(JsonParser jp, List<Link> links, String rel) {
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.VALUE_STRING) {
+      links.add(Link.of(jp.getValueAsString(), rel));
+      return;
+    }
+    if (token != JsonToken.START_OBJECT) {
+      jp.skipChildren();
+      return;
+    }
 
-          if (attributes.containsKey(NAME)) {
-            link = link.withName(attributes.get(NAME));
-          }
+    LinkProperties properties = new LinkProperties();
+    while (jp.nextToken() == JsonToken.PROPERTY_NAME) {
+      String name = jp.currentName();
+      jp.nextToken();
+      if (META.equals(name) && jp.currentToken() == JsonToken.START_OBJECT) {
+        while (jp.nextToken() == JsonToken.PROPERTY_NAME) {
+          String metaName = jp.currentName();
+          jp.nextToken();
+          properties.setMeta(metaName, readScalar(jp));
         }
-
-        link = getLink(linkedHashMap, link);
-
-        links.add(link);
+      } else {
+        properties.set(name, readScalar(jp));
       }
     }
-  }
 
-  private static Link getLink(LinkedHashMap<?, ?> linkedHashMap, Link link) {
-    if (linkedHashMap.containsKey(HREFLANG)) {
-      link = link.withHreflang(linkedHashMap.get(HREFLANG).toString());
+    if (properties.href != null) {
+      links.add(properties.toLink(rel));
     }
+  }
 
-    if (linkedHashMap.containsKey(TITLE)) {
-      link = link.withTitle(linkedHashMap.get(TITLE).toString());
+  private static @Nullable String readScalar(JsonParser jp) {
+    if (jp.currentToken().isScalarValue()) {
+      return jp.getValueAsString();
     }
+    jp.skipChildren();
+    return null;
+  }
+
+  private void deserializeLink(List<Link> links, String rel, @Nullable Object linkObject) {
+    if (linkObject instanceof String) {
+      links.add(Link.of(linkObject.toString(), rel));
+    } else if (linkObject instanceof Map<?, ?> linkMap) {
+      LinkProperties properties = new LinkProperties();
+      for (Map.Entry<?, ?> entry : linkMap.entrySet()) {
+        String name = String.valueOf(entry.getKey());
+        Object value = entry.getValue();
+        if (META.equals(name) && value instanceof Map<?, ?> metaMap) {
+          for (Map.Entry<?, ?> metaEntry : metaMap.entrySet()) {
+            properties.setMeta(String.valueOf(metaEntry.getKey()), asString(metaEntry.getValue()));
+          }
+        } else if (!(value instanceof Map) && !(value instanceof List)) {
+          properties.set(name, asString(value));
+        }
+      }
 
-    if (linkedHashMap.containsKey(TYPE)) {
-      link = link.withType(linkedHashMap.get(TYPE).toString());
+      if (properties.href != null) {
+        links.add(properties.toLink(rel));
+      }
     }
-    return link;
+  }
+
+  private static @Nullable String asString(@Nullable Object value) {
+    return value != null ? value.toString() : null;
   }
 
   /**
@@ -130,4 +152,80 @@ class JsonApiLinksDeserializer extends StdDeserializer<Links> {
         });
     return Links.of(links);
   }
+
+  /**
+   * Collects the properties of one JSON:API link object, so that the {@link Link} is only built
+   * once all properties are known. Top-level link properties take precedence over the same
+   * properties in the link meta.
+   */
+  private static class LinkProperties {
+
+    @Nullable String href;
+    @Nullable String hreflang;
+    @Nullable String title;
+    @Nullable String type;
+    @Nullable String metaHreflang;
+    @Nullable String metaTitle;
+    @Nullable String metaType;
+    @Nullable String media;
+    @Nullable String deprecation;
+    @Nullable String profile;
+    @Nullable String name;
+
+    void set(String property, @Nullable String value) {
+      switch (property) {
+        case HREF -> href = value;
+        case HREFLANG -> hreflang = value;
+        case TITLE -> title = value;
+        case TYPE -> type = value;
+        default -> {
+          // other link properties are not part of the Spring HATEOAS link model
+        }
+      }
+    }
+
+    void setMeta(String property, @Nullable String value) {
+      switch (property) {
+        case HREFLANG -> metaHreflang = value;
+        case TITLE -> metaTitle = value;
+        case TYPE -> metaType = value;
+        case MEDIA -> media = value;
+        case DEPRECATION -> deprecation = value;
+        case PROFILE -> profile = value;
+        case NAME -> name = value;
+        default -> {
+          // other meta properties are not part of the Spring HATEOAS link model
+        }
+      }
+    }
+
+    Link toLink(String rel) {
+      Link link = Link.of(href, rel);
+      String linkHreflang = hreflang != null ? hreflang : metaHreflang;
+      String linkTitle = title != null ? title : metaTitle;
+      String linkType = type != null ? type : metaType;
+      if (linkHreflang != null) {
+        link = link.withHreflang(linkHreflang);
+      }
+      if (linkTitle != null) {
+        link = link.withTitle(linkTitle);
+      }
+      if (linkType != null) {
+        link = link.withType(linkType);
+      }
+      if (media != null) {
+        link = link.withMedia(media);
+      }
+      if (deprecation != null) {
+        link = link.withDeprecation(deprecation);
+      }
+      if (profile != null) {
+        link = link.withProfile(profile);
+      }
+      if (name != null) {
+        link = link.withName(name);
+      }
+      return link;
+    }
+  }
 }
@@ -20,17 +20,21 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
 import static com.toedter.spring.hateoas.jsonapi.MediaTypes.JSON_API;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.With;
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.AffordanceModel;
+import org.springframework.hateoas.AffordanceModel.InputPayloadMetadata;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
@@ -38,23 +42,33 @@ import org.springframework.hateoas.Links;
 import org.springframework.hateoas.QueryParameter;
 import org.springframework.hateoas.mediatype.hal.forms.HalFormsTemplateBuilderWrapper;
 import org.springframework.http.HttpMethod;
-import org.springframework.web.util.UriUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.ConcurrentLruCache;
 import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
 import tools.jackson.databind.SerializationContext;
-import tools.jackson.databind.json.JsonMapper;
 
 class JsonApiLinksSerializer extends AbstractJsonApiSerializer<Links> {
 
-  private static final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private static final int MAX_RENDERED_AFFORDANCES = 256;
+
   private JsonApiConfiguration.AffordanceType affordanceType;
   private boolean removeHateoasLinkPropertiesFromMeta;
   private Set<LinkRelation> linksNotUrlEncoded = new HashSet<>();
+  private final JsonApiHrefEncoder hrefEncoder = new JsonApiHrefEncoder();
+  private final ConcurrentLruCache<RenderedAffordancesKey, RenderedAffordances>
+      renderedAffordancesCache =
+          new ConcurrentLruCache<>(MAX_RENDERED_AFFORDANCES, this::renderAffordances);
 
   public JsonApiLinksSerializer() {
     super(Links.class);
     this.affordanceType = JsonApiConfiguration.AffordanceType.NONE;
   }
 
+  int getRenderedAffordancesCacheSize() {
+    return renderedAffordancesCache.size();
+  }
+
   public void setJsonApiConfiguration(JsonApiConfiguration jsonApiConfiguration) {
     this.affordanceType = jsonApiConfiguration.getAffordancesRenderedAsLinkMeta();
     this.removeHateoasLinkPropertiesFromMeta =
@@ -64,137 +78,276 @@ class JsonApiLinksSerializer extends AbstractJsonApiSerializer<Links> {
 
   @Override
   public void serialize(Links value, JsonGenerator gen, SerializationContext provider) {
-    Map<LinkRelation, List<Link>> linksMap = new LinkedHashMap<>();
-    for (Link link : value) {
-      linksMap.computeIfAbsent(link.getRel(), key -> new ArrayList<>()).add(link);
-    }
-
     gen.writeStartObject();
+    writeLinks(value, gen);
+    gen.writeEndObject();
+  }
 
-    for (Map.Entry<LinkRelation, List<Link>> entry : linksMap.entrySet()) {
-      List<Link> list = entry.getValue();
-      if (list.size() == 1) {
-        Link link = list.get(0);
+  /** Writes the given links as fields of the current links object. */
+  void writeLinks(Links value, JsonGenerator gen) {
+    List<Link> links = value.toList();
+
+    for (int i = 0; i < links.size(); i++) {
+      Link link = links.get(i);
+      // JSON:API does not support arrays of links with same name.
+      // So, links with a relation that occurs more than once are ignored.
+      if (isUniqueRelation(links, i)) {
         serializeLinkWithRelation(gen, link);
       }
-      // JSON:API does not support arrays of links with same name.
-      // So, every list with size != 1 is ignored
     }
-    gen.writeEndObject();
+  }
+
+  private static boolean isUniqueRelation(List<Link> links, int index) {
+    LinkRelation rel = links.get(index).getRel();
+    for (int i = 0; i < links.size(); i++) {
+      if (i != index && links.get(i).getRel().equals(rel)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   private void serializeLinkWithRelation(JsonGenerator gen, Link link) {
-    if (isSimpleLink(link)) {
-      gen.writeName(link.getRel().value());
+    Object renderedAffordances = null;
+    if (!link.getAffordances().isEmpty()
+        && affordanceType != JsonApiConfiguration.AffordanceType.NONE) {
+      renderedAffordances = getRenderedAffordances(link);
+    }
+
+    boolean hasMeta =
+        link.getMedia() != null
+            || link.getDeprecation() != null
+            || link.getProfile() != null
+            || link.getName() != null
+            || link.isTemplated()
+            || renderedAffordances != null
+            || (!this.removeHateoasLinkPropertiesFromMeta && hasJsonApi11Properties(link));
+
+    gen.writeName(JsonApiTokens.name(link.getRel().value()));
+    if (!hasMeta && !hasJsonApi11Properties(link)) {
       gen.writeString(uriEncodeLinkHref(link));
-    } else {
-      gen.writeName(link.getRel().value());
-      gen.writeStartObject();
-      writeComplexLink(gen, link);
-      gen.writeEndObject();
+      return;
     }
-  }
 
-  private void writeComplexLink(JsonGenerator gen, Link link) {
-    gen.writeName("href");
+    gen.writeStartObject();
+    gen.writeName(JsonApiTokens.HREF);
     gen.writeString(uriEncodeLinkHref(link));
-    Map<String, Object> attributes = getAttributes(link);
-    if (link.getTitle() != null) {
-      gen.writeName("title");
-      gen.writeString(link.getTitle());
-      if (this.removeHateoasLinkPropertiesFromMeta) {
-        attributes.remove("title");
+    writeStringProperty(gen, JsonApiTokens.TITLE, link.getTitle());
+    writeStringProperty(gen, JsonApiTokens.TYPE, link.getType());
+    writeStringProperty(gen, JsonApiTokens.HREFLANG, link.getHreflang());
+
+    if (hasMeta) {
+      gen.writeName(JsonApiTokens.META);
+      gen.writeStartObject();
+      if (!this.removeHateoasLinkPropertiesFromMeta) {
+        writeStringProperty(gen, JsonApiTokens.HREFLANG, link.getHreflang());
       }
-    }
-    if (link.getType() != null) {
-      gen.writeName("type");
-      gen.writeString(link.getType());
-      if (this.removeHateoasLinkPropertiesFromMeta) {
-        attributes.remove("type");
+      writeStringProperty(gen, JsonApiTokens.MEDIA, link.getMedia());
+      if (!this.removeHateoasLinkPropertiesFromMeta) {
+        writeStringProperty(gen, JsonApiTokens.TITLE, link.getTitle());
+        writeStringProperty(gen, JsonApiTokens.TYPE, link.getType());
       }
-    }
-    if (link.getHreflang() != null) {
-      gen.writeName("hreflang");
-      gen.writeString(link.getHreflang());
-      if (this.removeHateoasLinkPropertiesFromMeta) {
-        attributes.remove("hreflang");
+      writeStringProperty(gen, JsonApiTokens.DEPRECATION, link.getDeprecation());
+      writeStringProperty(gen, JsonApiTokens.PROFILE, link.getProfile());
+      writeStringProperty(gen, JsonApiTokens.NAME, link.getName());
+      if (renderedAffordances != null) {
+        gen.writeName(
+            affordanceType == JsonApiConfiguration.AffordanceType.HAL_FORMS
+                ? JsonApiTokens.HAL_FORMS_TEMPLATES
+                : JsonApiTokens.AFFORDANCES);
+        gen.writePOJO(renderedAffordances);
+      }
+      if (link.isTemplated()) {
+        gen.writeName(JsonApiTokens.IS_TEMPLATED);
+        gen.writeBoolean(true);
       }
+      gen.writeEndObject();
     }
+    gen.writeEndObject();
+  }
 
-    gen.writeName("meta");
-    gen.writePOJO(attributes);
+  private static boolean hasJsonApi11Properties(Link link) {
+    return link.getTitle() != null || link.getType() != null || link.getHreflang() != null;
   }
 
-  private boolean isSimpleLink(Link link) {
-    return getAttributes(link).size() == 0;
+  private static void writeStringProperty(
+      JsonGenerator gen, SerializableString name, @Nullable String value) {
+    if (value != null) {
+      gen.writeName(name);
+      gen.writeString(value);
+    }
   }
 
   private String uriEncodeLinkHref(Link link) {
     return linksNotUrlEncoded.contains(link.getRel())
         ? link.getHref()
-        : UriUtils.encodeQuery(link.getHref(), StandardCharsets.UTF_8);
-  }
-
-  private Map<String, Object> getAttributes(Link link) {
-    final Map<String, Object> attributeMap = jsonMapper.convertValue(link, Map.class);
-    attributeMap.remove("rel");
-    attributeMap.remove("href");
-    attributeMap.remove("template");
-    attributeMap.remove("affordances");
-
-    if (!link.getAffordances().isEmpty()) {
-      List<Object> affordanceList = new ArrayList<>();
-      for (Affordance affordance : link.getAffordances()) {
-        if (this.affordanceType == JsonApiConfiguration.AffordanceType.SPRING_HATEOAS) {
-          JsonApiAffordanceModel affordanceModel = affordance.getAffordanceModel(JSON_API);
-          if (affordanceModel != null && affordanceModel.getHttpMethod() != HttpMethod.GET) {
-            String httpMethod = null;
-            if (affordanceModel.getHttpMethod() != null) {
-              httpMethod = affordanceModel.getHttpMethod().name();
-            }
-            SpringHateoasAffordance springHateoasAffordance =
-                new SpringHateoasAffordance(
-                    affordanceModel.getName(),
-                    affordanceModel.getLink(),
-                    httpMethod,
-                    affordanceModel.getQueryMethodParameters(),
-                    affordanceModel.getInputProperties(),
-                    affordanceModel.getQueryProperties());
-            affordanceList.add(springHateoasAffordance);
-          }
-        }
-
-        if (this.affordanceType == JsonApiConfiguration.AffordanceType.HAL_FORMS) {
-          AffordanceModel affordanceModel =
-              affordance.getAffordanceModel(org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON);
-          if (affordanceModel != null && affordanceModel.getHttpMethod() != HttpMethod.GET) {
-            Object halFormsTemplate =
-                HalFormsTemplateBuilderWrapper.write(EntityModel.of(new Object()).add(link));
-            if (halFormsTemplate != null) {
-              attributeMap.put("hal-forms-templates", halFormsTemplate);
-            }
-          }
-        }
-
-        if (!affordanceList.isEmpty()) {
-          attributeMap.put("affordances", affordanceList);
-        }
+        : hrefEncoder.encode(link.getHref());
+  }
+
+  /**
+   * Returns the affordances of the given link rendered for the configured affordance type. The
+   * rendering only depends on the affordance definitions and not on the resource, so it is cached
+   * per link relation and affordance definitions, and only the targets of the current link are
+   * substituted. This way, the affordances of all items of a collection share one cache entry.
+   */
+  private @Nullable Object getRenderedAffordances(Link link) {
+    MediaType mediaType =
+        affordanceType == JsonApiConfiguration.AffordanceType.HAL_FORMS
+            ? org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON
+            : JSON_API;
+    List<AffordanceModel> affordanceModels = new ArrayList<>();
+    for (Affordance affordance : link.getAffordances()) {
+      AffordanceModel affordanceModel = affordance.getAffordanceModel(mediaType);
+      if (affordanceModel != null && affordanceModel.getHttpMethod() != HttpMethod.GET) {
+        affordanceModels.add(affordanceModel);
       }
     }
+    if (affordanceModels.isEmpty()) {
+      return null;
+    }
+
+    RenderedAffordances renderedAffordances =
+        renderedAffordancesCache.get(RenderedAffordancesKey.of(link, affordanceModels));
+    List<String> targets = getTargets(affordanceModels);
+    if (renderedAffordances.value() == null || renderedAffordances.targets().equals(targets)) {
+      return renderedAffordances.value();
+    }
+
+    if (affordanceType != JsonApiConfiguration.AffordanceType.HAL_FORMS) {
+      @SuppressWarnings("unchecked")
+      List<SpringHateoasAffordance> cached =
+          (List<SpringHateoasAffordance>) renderedAffordances.value();
+      List<SpringHateoasAffordance> affordanceList = new ArrayList<>(cached.size());
+      for (int i = 0; i < cached.size(); i++) {
+        affordanceList.add(cached.get(i).withLink(affordanceModels.get(i).getLink()));
+      }
+      return Collections.unmodifiableList(affordanceList);
+    }
+
+    Map<String, String> targetMapping = new HashMap<>();
+    for (int i = 0; i < targets.size(); i++) {
+      targetMapping.put(renderedAffordances.targets().get(i), targets.get(i));
+    }
+    Object retargeted =
+        HalFormsTemplateBuilderWrapper.withTargets(renderedAffordances.value(), targetMapping);
+    return retargeted != null ? retargeted : renderHalFormsTemplates(link);
+  }
 
-    if (link.isTemplated()) {
-      attributeMap.put("isTemplated", true);
+  private RenderedAffordances renderAffordances(RenderedAffordancesKey key) {
+    Object value =
+        affordanceType == JsonApiConfiguration.AffordanceType.HAL_FORMS
+            ? renderHalFormsTemplates(key.link)
+            : getSpringHateoasAffordances(key.affordanceModels);
+    return new RenderedAffordances(value, getTargets(key.affordanceModels));
+  }
+
+  private static @Nullable Object renderHalFormsTemplates(Link link) {
+    return HalFormsTemplateBuilderWrapper.write(EntityModel.of(new Object()).add(link));
+  }
+
+  private static List<String> getTargets(List<AffordanceModel> affordanceModels) {
+    List<String> targets = new ArrayList<>(affordanceModels.size());
+    for (AffordanceModel affordanceModel : affordanceModels) {
+      targets.add(affordanceModel.getLink().getHref());
+    }
+    return targets;
+  }
+
+  private static List<SpringHateoasAffordance> getSpringHateoasAffordances(
+      List<AffordanceModel> affordanceModels) {
+    List<SpringHateoasAffordance> affordanceList = new ArrayList<>();
+    for (AffordanceModel model : affordanceModels) {
+      JsonApiAffordanceModel affordanceModel = (JsonApiAffordanceModel) model;
+      String httpMethod = null;
+      if (affordanceModel.getHttpMethod() != null) {
+        httpMethod = affordanceModel.getHttpMethod().name();
+      }
+      affordanceList.add(
+          new SpringHateoasAffordance(
+              affordanceModel.getName(),
+              affordanceModel.getLink(),
+              httpMethod,
+              affordanceModel.getQueryMethodParameters(),
+              affordanceModel.getInputProperties(),
+              affordanceModel.getQueryProperties()));
     }
-    return attributeMap;
+    return Collections.unmodifiableList(affordanceList);
   }
 
+  /**
+   * The href independent definition of the affordances of a link. HAL-FORMS templates depend on the
+   * relation, e.g. the target is left out for the self link if it is the href of the link, so the
+   * key records which targets are the href of the link and which targets are equal. The link and
+   * its affordance models are only kept to render the affordances on a cache miss.
+   */
+  private static final class RenderedAffordancesKey {
+
+    private final LinkRelation rel;
+    private final List<AffordanceDefinition> definitions;
+    private final Link link;
+    private final List<AffordanceModel> affordanceModels;
+
+    private RenderedAffordancesKey(
+        LinkRelation rel,
+        List<AffordanceDefinition> definitions,
+        Link link,
+        List<AffordanceModel> affordanceModels) {
+      this.rel = rel;
+      this.definitions = definitions;
+      this.link = link;
+      this.affordanceModels = affordanceModels;
+    }
+
+    static RenderedAffordancesKey of(Link link, List<AffordanceModel> affordanceModels) {
+      List<String> targets = getTargets(affordanceModels);
+      List<AffordanceDefinition> definitions = new ArrayList<>(affordanceModels.size());
+      for (int i = 0; i < affordanceModels.size(); i++) {
+        AffordanceModel affordanceModel = affordanceModels.get(i);
+        String target = targets.get(i);
+        definitions.add(
+            new AffordanceDefinition(
+                affordanceModel.getName(),
+                affordanceModel.getHttpMethod(),
+                affordanceModel.getInput(),
+                affordanceModel.getQueryMethodParameters(),
+                target.equals(link.getHref()) ? -1 : targets.indexOf(target)));
+      }
+      return new RenderedAffordancesKey(link.getRel(), definitions, link, affordanceModels);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      return o instanceof RenderedAffordancesKey other
+          && rel.equals(other.rel)
+          && definitions.equals(other.definitions);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(rel, definitions);
+    }
+  }
+
+  /**
+   * An affordance without its target. The target index is {@literal -1} if the target is the href
+   * of the link, otherwise the index of the first affordance with the same target.
+   */
+  private record AffordanceDefinition(
+      String name,
+      HttpMethod httpMethod,
+      InputPayloadMetadata input,
+      List<QueryParameter> queryMethodParameters,
+      int targetIndex) {}
+
+  private record RenderedAffordances(@Nullable Object value, List<String> targets) {}
+
   @RequiredArgsConstructor
   @Getter
   @JsonInclude(NON_EMPTY)
   static class SpringHateoasAffordance {
 
     private final String name;
-    private final Link link;
+    @With private final Link link;
     private final String httpMethod;
     private final List<QueryParameter> queryMethodParameters;
     private final List<JsonApiAffordanceModel.PropertyData> inputProperties;
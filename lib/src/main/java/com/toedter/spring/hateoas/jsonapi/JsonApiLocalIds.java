@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Maps the local ids ({@literal lid}) of a JSON:API Atomic Operations request to the ids assigned
+ * by the server. Local ids are unique per resource type within one request.
+ *
+ * @author Kai Toedter
+ * @see <a href="https://jsonapi.org/ext/atomic/#operation-objects">Atomic Operations</a>
+ */
+public class JsonApiLocalIds {
+
+  private final Map<String, Map<String, String>> idsByType = new HashMap<>();
+
+  /**
+   * Registers the server assigned id for a local id.
+   *
+   * @param type the JSON:API type, must not be {@literal null}.
+   * @param lid the local id, must not be {@literal null}.
+   * @param id the id assigned by the server, must not be {@literal null}.
+   */
+  public void register(String type, String lid, Object id) {
+    Assert.notNull(type, "type must not be null!");
+    Assert.notNull(lid, "lid must not be null!");
+    Assert.notNull(id, "id must not be null!");
+    idsByType.computeIfAbsent(type, key -> new HashMap<>()).put(lid, id.toString());
+  }
+
+  /**
+   * Resolves a local id.
+   *
+   * @param type the JSON:API type
+   * @param lid the local id
+   * @return the registered id or {@literal null}, if no id was registered.
+   */
+  public @Nullable String resolve(String type, String lid) {
+    Map<String, String> ids = idsByType.get(type);
+    return ids == null ? null : ids.get(lid);
+  }
+}
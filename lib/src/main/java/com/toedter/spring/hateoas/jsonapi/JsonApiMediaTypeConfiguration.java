@@ -19,8 +19,11 @@ package com.toedter.spring.hateoas.jsonapi;
 import java.util.Collections;
 import java.util.List;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.hateoas.config.HypermediaMappingInformation;
 import org.springframework.http.MediaType;
@@ -51,6 +54,27 @@ public class JsonApiMediaTypeConfiguration implements HypermediaMappingInformati
     this.beanFactory = beanFactory;
   }
 
+  /**
+   * Creates a new {@link JsonApiModelBuilder} that validates relationships with the application's
+   * {@link JsonApiConfiguration}, so the resource identifiers resolved during {@link
+   * JsonApiModelBuilder#build()} are the ones that are rendered.
+   *
+   * @return will never be {@literal null}.
+   */
+  public JsonApiModelBuilder jsonApiModel() {
+    return JsonApiModelBuilder.jsonApiModel(getJsonApiConfiguration());
+  }
+
+  @Bean
+  JsonApiAffordancePrecomputer jsonApiAffordancePrecomputer(ListableBeanFactory beanFactory) {
+    return new JsonApiAffordancePrecomputer(beanFactory);
+  }
+
+  @Bean
+  JsonApiWarmup jsonApiWarmup(ConfigurableListableBeanFactory beanFactory) {
+    return new JsonApiWarmup(beanFactory);
+  }
+
   /*
    * (non-Javadoc)
    * @see org.springframework.hateoas.config.HypermediaMappingInformation#getMediaTypes()
@@ -66,11 +90,19 @@ public class JsonApiMediaTypeConfiguration implements HypermediaMappingInformati
    */
   @Override
   public JsonMapper.Builder configureJsonMapper(JsonMapper.Builder builder) {
-    JsonApiConfiguration jsonApiConfiguration =
-        configuration != null
-            ? configuration.getIfAvailable(JsonApiConfiguration::new)
-            : new JsonApiConfiguration();
+    return configureJsonMapper(builder, getJsonApiConfiguration(), beanFactory);
+  }
+
+  private JsonApiConfiguration getJsonApiConfiguration() {
+    return configuration != null
+        ? configuration.getIfAvailable(JsonApiConfiguration::new)
+        : new JsonApiConfiguration();
+  }
 
+  static JsonMapper.Builder configureJsonMapper(
+      JsonMapper.Builder builder,
+      JsonApiConfiguration jsonApiConfiguration,
+      @Nullable AutowireCapableBeanFactory beanFactory) {
     builder =
         builder
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
@@ -16,25 +16,28 @@
 
 package com.toedter.spring.hateoas.jsonapi;
 
-import java.net.MalformedURLException;
-import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Fluent builder API for creating complex JSON:API representations with relationships and included
@@ -80,16 +83,26 @@ public class JsonApiModelBuilder {
   private static final String PAGE_SIZE = "size";
   private static final String PAGE_TOTAL_ELEMENTS = "totalElements";
   private static final String PAGE_TOTAL_PAGES = "totalPages";
+  private static final String COUNT = "count";
 
+  private static final JsonApiConfiguration DEFAULT_CONFIGURATION = new JsonApiConfiguration();
+
+  private final JsonApiConfiguration jsonApiConfiguration;
   private final HashMap<String, JsonApiRelationship> relationships = new HashMap<>();
   private final HashMap<String, Collection<String>> sparseFieldsets = new HashMap<>();
   private final List<RepresentationModel<?>> included = new ArrayList<>();
+  private final Map<String, LinkageSource> linkageSources = new HashMap<>();
+  private final Set<String> requestedRelationships = new HashSet<>();
+  private final Map<String, LongSupplier> relationshipCounts = new LinkedHashMap<>();
   private final Map<String, Object> meta = new LinkedHashMap<>();
+  private final Map<String, RelationshipData> relationshipData = new HashMap<>();
 
   @Nullable private RepresentationModel<?> model;
   private Links links = Links.NONE;
 
-  private JsonApiModelBuilder() {}
+  private JsonApiModelBuilder(JsonApiConfiguration jsonApiConfiguration) {
+    this.jsonApiConfiguration = jsonApiConfiguration;
+  }
 
   /**
    * Sets the {@link RepresentationModel} as the primary data for the JSON:API document to be built.
@@ -200,7 +213,7 @@ public class JsonApiModelBuilder {
     Assert.notNull(name, RELATIONSHIP_NAME_MUST_NOT_BE_NULL);
 
     final JsonApiRelationship jsonApiRelationship =
-        addDataObject(relationships.get(name), dataObject, null);
+        addDataObject(name, dataObject, null);
     relationships.put(name, jsonApiRelationship);
 
     return this;
@@ -222,7 +235,7 @@ public class JsonApiModelBuilder {
     Assert.notNull(collection, "Relationship data collection must not be null!");
 
     final JsonApiRelationship jsonApiRelationship =
-        addDataCollection(relationships.get(name), collection);
+        addDataCollection(name, collection);
     relationships.put(name, jsonApiRelationship);
 
     return this;
@@ -271,7 +284,7 @@ public class JsonApiModelBuilder {
     if (entityModel != null) {
       Object content = entityModel.getContent();
       Assert.notNull(content, "Content of EntityModel must not be null!");
-      jsonApiRelationship = addDataObject(relationships.get(name), content, null);
+      jsonApiRelationship = addDataObject(name, content, null);
     }
 
     if (selfLink != null || relatedLink != null) {
@@ -322,7 +335,7 @@ public class JsonApiModelBuilder {
     Assert.notNull(dataObject, "Relationship data object must not be null!");
 
     final JsonApiRelationship jsonApiRelationship =
-        addDataObject(relationships.get(name), dataObject, resourceIdentifierMeta);
+        addDataObject(name, dataObject, resourceIdentifierMeta);
 
     relationships.put(name, jsonApiRelationship);
     return this;
@@ -353,6 +366,80 @@ public class JsonApiModelBuilder {
     return this;
   }
 
+  /**
+   * Adds or updates a {@literal relationship} whose data is retrieved lazily from the given
+   * supplier. Depending on the {@link JsonApiLinkagePolicy}, the supplier is only invoked when
+   * {@link #build()} renders the linkage, e.g. for {@link JsonApiLinkagePolicy#WHEN_INCLUDED} only
+   * if the relationship is requested by the {@literal include} parameter (see {@link
+   * #includeParameter(String...)}) or listed in the sparse fieldset of the JSON:API type of the
+   * model (see {@link #fields(String, String...)}). The type of the model is resolved with the
+   * configuration of this builder, so deciding the linkage by sparse fieldsets requires a builder
+   * created with the application's configuration, otherwise {@link #build()} throws an {@link
+   * IllegalStateException}. The supplier may return a single object, a {@link Collection}, or
+   * {@literal null} for an empty to-one relationship. Links and meta of the relationship can be
+   * added with the other relationship methods, and are rendered regardless of the policy. A
+   * relationship with neither linkage, links nor meta is omitted.
+   *
+   * @param name must not be {@literal null}.
+   * @param dataSupplier must not be {@literal null}.
+   * @param linkagePolicy must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  public JsonApiModelBuilder relationship(
+      String name, Supplier<?> dataSupplier, JsonApiLinkagePolicy linkagePolicy) {
+    Assert.notNull(name, RELATIONSHIP_NAME_MUST_NOT_BE_NULL);
+    Assert.notNull(dataSupplier, "Relationship data supplier must not be null!");
+    Assert.notNull(linkagePolicy, "Linkage policy must not be null!");
+
+    linkageSources.put(name, new LinkageSource(dataSupplier, linkagePolicy));
+    return this;
+  }
+
+  /**
+   * Adds or updates a {@literal relationship} with the number of related resources, rendered as
+   * {@literal "meta": {"count": 42}}. The count is retrieved when {@link #build()} is called, the
+   * related resources are not loaded. Counts for all resources of a page can be retrieved with one
+   * query by using {@link JsonApiRelationshipCounts}. Existing meta of the relationship is kept.
+   *
+   * @param name must not be {@literal null}.
+   * @param count must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  public JsonApiModelBuilder relationshipCount(String name, LongSupplier count) {
+    Assert.notNull(name, RELATIONSHIP_NAME_MUST_NOT_BE_NULL);
+    Assert.notNull(count, "Relationship count must not be null!");
+
+    relationshipCounts.put(name, count);
+    return this;
+  }
+
+  /**
+   * Sets the values of the {@literal include} request parameter. Each value can be a comma
+   * separated list of include paths. The first segment of each path names a relationship of the
+   * primary data, whose linkage is then rendered under {@link JsonApiLinkagePolicy#WHEN_INCLUDED}.
+   * Calling {@link #included(JsonApiIncludeResolver, Collection, String...)} sets the include
+   * parameter as well.
+   *
+   * @param include the values of the {@literal include} request parameter, can be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  public JsonApiModelBuilder includeParameter(@Nullable String... include) {
+    if (include != null) {
+      for (String parameter : include) {
+        if (parameter == null) {
+          continue;
+        }
+        for (String path : StringUtils.commaDelimitedListToStringArray(parameter)) {
+          String relationshipName = StringUtils.delimitedListToStringArray(path.trim(), ".")[0];
+          if (StringUtils.hasText(relationshipName)) {
+            requestedRelationships.add(relationshipName);
+          }
+        }
+      }
+    }
+    return this;
+  }
+
   /**
    * If called (anywhere in the builder sequence), the data portion of this relationship will always
    * be rendered as an array, even if the data is not set or is one single element, e.g. {@literal
@@ -457,27 +544,45 @@ public class JsonApiModelBuilder {
   }
 
   private JsonApiRelationship addDataObject(
-      @Nullable JsonApiRelationship jsonApiRelationship,
+      String name,
       @Nullable Object dataObject,
       @Nullable Map<String, Object> resourceIdentifierMeta) {
-    JsonApiRelationship newRelationship;
+    JsonApiRelationship jsonApiRelationship = relationships.get(name);
     if (jsonApiRelationship == null) {
-      newRelationship = JsonApiRelationship.of(dataObject, resourceIdentifierMeta);
-    } else {
-      newRelationship = jsonApiRelationship.addDataObject(dataObject, resourceIdentifierMeta);
+      return JsonApiRelationship.of(dataObject, resourceIdentifierMeta);
     }
-    return newRelationship;
+    Object currentData = jsonApiRelationship.getData();
+    if (currentData == null) {
+      return jsonApiRelationship.addDataObject(dataObject, resourceIdentifierMeta);
+    }
+    RelationshipData data = getRelationshipData(name, jsonApiRelationship, currentData);
+    data.add(dataObject, resourceIdentifierMeta);
+    return data.toRelationship(jsonApiRelationship);
   }
 
-  private JsonApiRelationship addDataCollection(
-      @Nullable JsonApiRelationship jsonApiRelationship, Collection<?> collection) {
-    JsonApiRelationship newRelationship;
+  private JsonApiRelationship addDataCollection(String name, Collection<?> collection) {
+    JsonApiRelationship jsonApiRelationship = relationships.get(name);
     if (jsonApiRelationship == null) {
-      newRelationship = JsonApiRelationship.of(collection);
-    } else {
-      newRelationship = jsonApiRelationship.addDataCollection(collection);
+      return JsonApiRelationship.of(collection);
     }
-    return newRelationship;
+    Object currentData = jsonApiRelationship.getData();
+    if (currentData == null) {
+      return jsonApiRelationship.addDataCollection(collection);
+    }
+    RelationshipData data = getRelationshipData(name, jsonApiRelationship, currentData);
+    data.addAll(collection);
+    return data.toRelationship(jsonApiRelationship);
+  }
+
+  private RelationshipData getRelationshipData(
+      String name, JsonApiRelationship jsonApiRelationship, Object currentData) {
+    RelationshipData data = relationshipData.get(name);
+    // the data is copied once, if it was not created by this builder
+    if (data == null || data.data != currentData) {
+      data = new RelationshipData(currentData, jsonApiRelationship.getMetaForResourceIdentifiers());
+      relationshipData.put(name, data);
+    }
+    return data;
   }
 
   /**
@@ -528,6 +633,27 @@ public class JsonApiModelBuilder {
     return this;
   }
 
+  /**
+   * Resolves the given {@literal include} paths for the given primary data with a {@link
+   * JsonApiIncludeResolver} and adds the resolved resources to the {@literal included} {@link
+   * RepresentationModel}s. Duplicates with same {@literal id} and {@literal type} will be
+   * eliminated.
+   *
+   * @param includeResolver must not be {@literal null}.
+   * @param primaryData the primary data, plain objects or {@link EntityModel}s, must not be
+   *     {@literal null}.
+   * @param include the values of the {@literal include} request parameter, can be {@literal null}.
+   * @return will never be {@literal null}.
+   * @throws IllegalArgumentException if an include path contains an unknown relationship
+   */
+  public JsonApiModelBuilder included(
+      JsonApiIncludeResolver includeResolver,
+      Collection<?> primaryData,
+      @Nullable String... include) {
+    Assert.notNull(includeResolver, "includeResolver must not be null!");
+    return this.included(includeResolver.resolve(primaryData, include)).includeParameter(include);
+  }
+
   /**
    * Adds the given key/value pair to the {@literal JSON:API} meta.
    *
@@ -577,12 +703,15 @@ public class JsonApiModelBuilder {
    *   <li>the model contains {@literal PageMetadata}
    * </ul>
    *
+   * <p>The link base is parsed on every call, endpoints rendering many pages should keep a {@link
+   * PageLinkTemplate} in a constant and use {@link #pageLinks(PageLinkTemplate)} instead.
+   *
    * @param linkBase the prefix of all pagination links, e.g. the base URL of the collection
    *     resource
    * @return will never be {@literal null}.
    */
   public JsonApiModelBuilder pageLinks(String linkBase) {
-    return this.pageLinks(linkBase, "page[number]", "page[size]");
+    return this.pageLinks(PageLinkTemplate.of(linkBase));
   }
 
   /**
@@ -596,6 +725,8 @@ public class JsonApiModelBuilder {
    *   <li>the model contains {@literal PageMetadata}
    * </ul>
    *
+   * <p>The link base is parsed on every call, see {@link #pageLinks(PageLinkTemplate)}.
+   *
    * @param linkBase the prefix of all pagination links, e.g. the base URL of the collection
    *     resource
    * @param pageNumberRequestParam the request parameter for page number
@@ -608,84 +739,27 @@ public class JsonApiModelBuilder {
     Assert.notNull(pageNumberRequestParam, "page number request parameter must not be null!");
     Assert.notNull(pageSizeRequestParam, "page size request parameter must not be null!");
 
-    final PagedModel.PageMetadata metadata = getPageMetadata();
-
-    final long pageNumber = metadata.getNumber();
-    final long pageSize = metadata.getSize();
-    final long totalPages = metadata.getTotalPages();
-
-    List<Link> paginationLinks = new ArrayList<>();
+    return pageLinks(PageLinkTemplate.of(linkBase, pageNumberRequestParam, pageSizeRequestParam));
+  }
 
-    String paramStart = "?";
+  /**
+   * Creates all pagination links with a precompiled {@link PageLinkTemplate}.
+   *
+   * <p>Preconditions are:
+   *
+   * <ul>
+   *   <li>the model has been added before
+   *   <li>the model is a {@literal PagedModel}
+   *   <li>the model contains {@literal PageMetadata}
+   * </ul>
+   *
+   * @param pageLinkTemplate the template of the pagination links, must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  public JsonApiModelBuilder pageLinks(PageLinkTemplate pageLinkTemplate) {
+    Assert.notNull(pageLinkTemplate, "page link template must not be null!");
 
-    try {
-      String query = URI.create(linkBase).toURL().getQuery();
-      if (query != null) {
-        paramStart = "&";
-      }
-    } catch (MalformedURLException | IllegalArgumentException e) {
-      throw new IllegalArgumentException("linkBase parameter must be a valid URL.");
-    }
-
-    if (pageNumber > 0) {
-      Link firstLink =
-          Link.of(
-                  linkBase
-                      + paramStart
-                      + pageNumberRequestParam
-                      + "=0&"
-                      + pageSizeRequestParam
-                      + "="
-                      + pageSize)
-              .withRel(IanaLinkRelations.FIRST);
-      paginationLinks.add(firstLink);
-
-      Link prevLink =
-          Link.of(
-                  linkBase
-                      + paramStart
-                      + pageNumberRequestParam
-                      + "="
-                      + (pageNumber - 1)
-                      + "&"
-                      + pageSizeRequestParam
-                      + "="
-                      + pageSize)
-              .withRel(IanaLinkRelations.PREV);
-      paginationLinks.add(prevLink);
-    }
-
-    if (pageNumber < totalPages - 1) {
-      Link nextLink =
-          Link.of(
-                  linkBase
-                      + paramStart
-                      + pageNumberRequestParam
-                      + "="
-                      + (pageNumber + 1)
-                      + "&"
-                      + pageSizeRequestParam
-                      + "="
-                      + pageSize)
-              .withRel(IanaLinkRelations.NEXT);
-      paginationLinks.add(nextLink);
-
-      Link lastLink =
-          Link.of(
-                  linkBase
-                      + paramStart
-                      + pageNumberRequestParam
-                      + "="
-                      + (totalPages - 1)
-                      + "&"
-                      + pageSizeRequestParam
-                      + "="
-                      + pageSize)
-              .withRel(IanaLinkRelations.LAST);
-      paginationLinks.add(lastLink);
-    }
-
-    this.links = this.links.and(paginationLinks);
+    this.links = this.links.and(pageLinkTemplate.links(getPageMetadata()));
 
     return this;
   }
@@ -712,23 +786,188 @@ public class JsonApiModelBuilder {
    * @return will never be {@literal null}.
    */
   public RepresentationModel<?> build() {
-    for (JsonApiRelationship jsonApiRelationship : relationships.values()) {
-      if (!jsonApiRelationship.isValid()) {
-        throw new IllegalStateException(
-            "Cannot build representation model: JSON:API relationship validation error for: "
-                + jsonApiRelationship);
-      }
+    // entities shared by several relationships are introspected only once
+    JsonApiResourceIdentityCache identityCache =
+        new JsonApiResourceIdentityCache(jsonApiConfiguration);
+    // the built model shares the data lists, so later appends must copy them
+    relationshipData.clear();
+    HashMap<String, JsonApiRelationship> validatedRelationships = new HashMap<>();
+    Map<String, JsonApiRelationship> preparedRelationships =
+        applyRelationshipCounts(applyLinkagePolicies(identityCache));
+    for (Map.Entry<String, JsonApiRelationship> entry : preparedRelationships.entrySet()) {
+      JsonApiRelationship jsonApiRelationship = entry.getValue();
+      JsonApiRelationship validatedRelationship =
+          jsonApiRelationship
+              .validate(identityCache)
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          "Cannot build representation model: JSON:API relationship validation"
+                              + " error for: "
+                              + jsonApiRelationship));
+      validatedRelationships.put(entry.getKey(), validatedRelationship);
     }
-    return new JsonApiModel(model, relationships, included, meta, links, sparseFieldsets);
+    return new JsonApiModel(model, validatedRelationships, included, meta, links, sparseFieldsets);
   }
 
   /**
-   * Creates a new {@link JsonApiModelBuilder}.
+   * Creates a new {@link JsonApiModelBuilder}. Relationships are validated with a default {@link
+   * JsonApiConfiguration}. In a Spring application, {@link
+   * JsonApiMediaTypeConfiguration#jsonApiModel()} creates a builder with the application's
+   * configuration.
    *
    * @return will never be {@literal null}.
    */
   public static JsonApiModelBuilder jsonApiModel() {
-    return new JsonApiModelBuilder();
+    return new JsonApiModelBuilder(DEFAULT_CONFIGURATION);
+  }
+
+  /**
+   * Creates a new {@link JsonApiModelBuilder} that validates relationships with the given {@link
+   * JsonApiConfiguration}. When this is the configuration the model is rendered with, the resource
+   * identifiers resolved during {@link #build()} are written without resolving them again.
+   *
+   * @param jsonApiConfiguration must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  public static JsonApiModelBuilder jsonApiModel(JsonApiConfiguration jsonApiConfiguration) {
+    Assert.notNull(jsonApiConfiguration, "jsonApiConfiguration must not be null!");
+    return new JsonApiModelBuilder(jsonApiConfiguration);
+  }
+
+  private Map<String, JsonApiRelationship> applyLinkagePolicies(
+      JsonApiResourceIdentityCache identityCache) {
+    if (linkageSources.isEmpty()) {
+      return relationships;
+    }
+
+    Map<String, JsonApiRelationship> result = new HashMap<>(relationships);
+    for (Map.Entry<String, LinkageSource> entry : linkageSources.entrySet()) {
+      String name = entry.getKey();
+      LinkageSource linkageSource = entry.getValue();
+      JsonApiRelationship jsonApiRelationship = relationships.get(name);
+      if (jsonApiRelationship == null) {
+        jsonApiRelationship = new JsonApiRelationship(null, null, null, null, false);
+      }
+
+      if (isLinkageRendered(name, linkageSource.linkagePolicy(), identityCache)) {
+        Object data = linkageSource.dataSupplier().get();
+        if (data == null) {
+          jsonApiRelationship = jsonApiRelationship.withNullData();
+        } else if (data instanceof Collection<?> collection) {
+          jsonApiRelationship = jsonApiRelationship.withoutData().addDataCollection(collection);
+        } else {
+          jsonApiRelationship = jsonApiRelationship.withoutData().addDataObject(data);
+        }
+      } else {
+        jsonApiRelationship = jsonApiRelationship.withoutData();
+      }
+
+      if (jsonApiRelationship.isEmpty()) {
+        result.remove(name);
+      } else {
+        result.put(name, jsonApiRelationship);
+      }
+    }
+    return result;
+  }
+
+  private Map<String, JsonApiRelationship> applyRelationshipCounts(
+      Map<String, JsonApiRelationship> preparedRelationships) {
+    if (relationshipCounts.isEmpty()) {
+      return preparedRelationships;
+    }
+
+    Map<String, JsonApiRelationship> result = new HashMap<>(preparedRelationships);
+    for (Map.Entry<String, LongSupplier> entry : relationshipCounts.entrySet()) {
+      JsonApiRelationship jsonApiRelationship = result.get(entry.getKey());
+      if (jsonApiRelationship == null) {
+        jsonApiRelationship = new JsonApiRelationship(null, null, null, null, false);
+      }
+      Map<String, Object> relationshipMeta = new LinkedHashMap<>();
+      Map<String, Object> existingMeta = jsonApiRelationship.getMeta();
+      if (existingMeta != null) {
+        relationshipMeta.putAll(existingMeta);
+      }
+      relationshipMeta.put(COUNT, entry.getValue().getAsLong());
+      result.put(entry.getKey(), jsonApiRelationship.withMeta(relationshipMeta));
+    }
+    return result;
+  }
+
+  private boolean isLinkageRendered(
+      String name, JsonApiLinkagePolicy linkagePolicy, JsonApiResourceIdentityCache identityCache) {
+    return switch (linkagePolicy) {
+      case ALWAYS -> true;
+      case LINKS_ONLY -> false;
+      case WHEN_INCLUDED ->
+          requestedRelationships.contains(name) || isInModelFieldset(name, identityCache);
+    };
+  }
+
+  // only the sparse fieldset of the JSON:API type of the primary data applies to its relationships
+  private boolean isInModelFieldset(String name, JsonApiResourceIdentityCache identityCache) {
+    if (sparseFieldsets.isEmpty() || model == null) {
+      return false;
+    }
+    Object content = model instanceof EntityModel<?> entityModel ? entityModel.getContent() : model;
+    if (content == null) {
+      return false;
+    }
+    // the type rendered with the application's configuration may differ from the default one
+    if (jsonApiConfiguration == DEFAULT_CONFIGURATION) {
+      throw new IllegalStateException(
+          "Cannot decide the linkage of relationship "
+              + name
+              + " by sparse fieldsets without the application's JsonApiConfiguration."
+              + " Use JsonApiMediaTypeConfiguration.jsonApiModel() or"
+              + " jsonApiModel(JsonApiConfiguration).");
+    }
+    Collection<String> fields = sparseFieldsets.get(identityCache.getType(content).value);
+    return fields != null && fields.contains(name);
+  }
+
+  private record LinkageSource(Supplier<?> dataSupplier, JsonApiLinkagePolicy linkagePolicy) {}
+
+  /**
+   * The relationship data appended by this builder. The data list and the resource identifier meta
+   * are appended in place, so adding n data objects one by one is linear. They are only shared
+   * with relationships that are never exposed before {@link #build()}.
+   */
+  private static final class RelationshipData {
+
+    private final List<Object> data;
+    @Nullable private Map<Object, Map<String, Object>> metaForResourceIdentifiers;
+
+    RelationshipData(Object currentData, @Nullable Map<Object, Map<String, Object>> currentMeta) {
+      this.data = JsonApiRelationship.copyData(currentData, 1);
+      this.metaForResourceIdentifiers =
+          currentMeta != null ? new IdentityHashMap<>(currentMeta) : null;
+    }
+
+    void add(@Nullable Object dataObject, @Nullable Map<String, Object> resourceIdentifierMeta) {
+      data.add(dataObject);
+      if (resourceIdentifierMeta != null && !resourceIdentifierMeta.isEmpty()) {
+        if (metaForResourceIdentifiers == null) {
+          // keyed by identity, like in JsonApiRelationship
+          metaForResourceIdentifiers = new IdentityHashMap<>();
+        }
+        metaForResourceIdentifiers.put(dataObject, resourceIdentifierMeta);
+      }
+    }
+
+    void addAll(Collection<?> collection) {
+      data.addAll(collection);
+    }
+
+    JsonApiRelationship toRelationship(JsonApiRelationship jsonApiRelationship) {
+      return new JsonApiRelationship(
+          data,
+          jsonApiRelationship.getLinks(),
+          jsonApiRelationship.getMeta(),
+          metaForResourceIdentifiers,
+          true);
+    }
   }
 
   private PagedModel.PageMetadata getPageMetadata() {
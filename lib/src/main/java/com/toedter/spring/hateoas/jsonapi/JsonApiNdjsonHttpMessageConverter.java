@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Spring MVC {@link org.springframework.http.converter.HttpMessageConverter} that reads a request
+ * body of newline-delimited JSON:API resource objects ({@literal application/x-ndjson}) into a
+ * {@code Stream<EntityModel<T>>}. The resources are bound lazily while the stream is consumed, so
+ * the stream has to be consumed within the handler method.
+ *
+ * <p>The converter is not registered automatically, it can be added like any other {@link
+ * org.springframework.http.converter.HttpMessageConverter}.
+ *
+ * @author Kai Toedter
+ * @see JsonApiNdjsonReader
+ */
+public class JsonApiNdjsonHttpMessageConverter
+    extends AbstractSmartHttpMessageConverter<Stream<?>> {
+
+  private final JsonApiNdjsonReader reader;
+
+  /**
+   * Creates a new {@link JsonApiNdjsonHttpMessageConverter}.
+   *
+   * @param jsonApiConfiguration the {@link JsonApiConfiguration}, must not be {@literal null}.
+   */
+  public JsonApiNdjsonHttpMessageConverter(JsonApiConfiguration jsonApiConfiguration) {
+    super(MediaType.APPLICATION_NDJSON);
+    this.reader = new JsonApiNdjsonReader(jsonApiConfiguration);
+  }
+
+  /**
+   * Creates a new {@link JsonApiNdjsonHttpMessageConverter} that binds with the given mapper, e.g.
+   * the JSON:API mapper of the application.
+   *
+   * @param jsonMapper a {@link JsonMapper} configured for JSON:API, must not be {@literal null}.
+   */
+  public JsonApiNdjsonHttpMessageConverter(JsonMapper jsonMapper) {
+    super(MediaType.APPLICATION_NDJSON);
+    this.reader = new JsonApiNdjsonReader(jsonMapper);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return Stream.class.equals(clazz);
+  }
+
+  @Override
+  public boolean canRead(ResolvableType type, @Nullable MediaType mediaType) {
+    return Stream.class.equals(type.toClass())
+        && EntityModel.class.equals(type.getGeneric(0).toClass())
+        && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(ResolvableType type, Class<?> clazz, @Nullable MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  public Stream<?> read(
+      ResolvableType type, HttpInputMessage inputMessage, @Nullable Map<String, Object> hints)
+      throws IOException {
+    return reader.read(inputMessage.getBody(), type.getGeneric(0).getType());
+  }
+
+  @Override
+  protected void writeInternal(
+      Stream<?> stream,
+      ResolvableType type,
+      HttpOutputMessage outputMessage,
+      @Nullable Map<String, Object> hints) {
+    throw new HttpMessageNotWritableException("Writing NDJSON is not supported");
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.util.Assert;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads newline-delimited JSON:API resource objects (NDJSON) lazily as a {@link Stream} of {@link
+ * EntityModel}s. Only one resource object is held in memory at a time, so arbitrarily large bulk
+ * uploads can be processed with constant memory, e.g. in batches, see {@link #batched(Stream,
+ * int)}.
+ *
+ * <p>Each line is bound like the primary data of a JSON:API document, so all features of {@link
+ * EntityModel} deserialization, like relationships and {@link JsonApiId} annotations, apply.
+ *
+ * @author Kai Toedter
+ */
+public class JsonApiNdjsonReader {
+
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Creates a new {@link JsonApiNdjsonReader} with its own mapper for the given configuration. The
+   * mapper does not know the Jackson customizations and beans of the application, use {@link
+   * #JsonApiNdjsonReader(JsonMapper)} to bind like the other requests of the application.
+   *
+   * @param jsonApiConfiguration the {@link JsonApiConfiguration}, must not be {@literal null}.
+   */
+  public JsonApiNdjsonReader(JsonApiConfiguration jsonApiConfiguration) {
+    this(
+        JsonApiMediaTypeConfiguration.configureJsonMapper(
+                JsonMapper.builder(), requireConfiguration(jsonApiConfiguration), null)
+            .build());
+  }
+
+  /**
+   * Creates a new {@link JsonApiNdjsonReader} that binds with the given mapper, e.g. the JSON:API
+   * mapper of the application.
+   *
+   * @param jsonMapper a {@link JsonMapper} configured for JSON:API, must not be {@literal null}.
+   */
+  public JsonApiNdjsonReader(JsonMapper jsonMapper) {
+    Assert.notNull(jsonMapper, "jsonMapper must not be null!");
+    this.jsonMapper = jsonMapper;
+  }
+
+  /**
+   * Reads the resource objects of the given input lazily. The returned stream must be closed to
+   * release the underlying parser; the input stream itself is closed then, too.
+   *
+   * @param inputStream the NDJSON input, must not be {@literal null}.
+   * @param clazz the class of the entities, must not be {@literal null}.
+   * @param <T> the type of the entities
+   * @return a sequential, lazily evaluated stream
+   */
+  public <T> Stream<EntityModel<T>> read(InputStream inputStream, Class<T> clazz) {
+    Assert.notNull(clazz, "clazz must not be null!");
+    return readEntityModels(
+        inputStream,
+        jsonMapper.getTypeFactory().constructParametricType(EntityModel.class, clazz));
+  }
+
+  <T> Stream<EntityModel<T>> read(InputStream inputStream, Type entityModelType) {
+    return readEntityModels(inputStream, jsonMapper.constructType(entityModelType));
+  }
+
+  private <T> Stream<EntityModel<T>> readEntityModels(
+      InputStream inputStream, JavaType entityModelType) {
+    Assert.notNull(inputStream, "inputStream must not be null!");
+
+    // each line is read as a resource object directly from the parser, without a tree
+    ObjectReader reader =
+        jsonMapper
+            .readerFor(entityModelType)
+            .withAttribute(AbstractJsonApiModelDeserializer.RESOURCE_OBJECT_ROOT, Boolean.TRUE);
+    JsonParser parser = reader.createParser(inputStream);
+    Spliterator<EntityModel<T>> spliterator =
+        new Spliterators.AbstractSpliterator<>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+          @Override
+          public boolean tryAdvance(Consumer<? super EntityModel<T>> action) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+              return false;
+            }
+            if (token != JsonToken.START_OBJECT) {
+              throw new IllegalArgumentException(
+                  "NDJSON input must contain one JSON:API resource object per line");
+            }
+
+            action.accept(reader.readValue(parser));
+            return true;
+          }
+        };
+    return StreamSupport.stream(spliterator, false).onClose(parser::close);
+  }
+
+  private static JsonApiConfiguration requireConfiguration(
+      JsonApiConfiguration jsonApiConfiguration) {
+    Assert.notNull(jsonApiConfiguration, "jsonApiConfiguration must not be null!");
+    return jsonApiConfiguration;
+  }
+
+  /**
+   * Groups the elements of a stream lazily into batches of the given size. The last batch may be
+   * smaller. Closing the returned stream closes the given stream.
+   *
+   * @param stream the stream to group, must not be {@literal null}.
+   * @param batchSize the maximum size of a batch, must be greater than 0.
+   * @param <T> the element type
+   * @return a sequential, lazily evaluated stream of batches
+   */
+  public static <T> Stream<List<T>> batched(Stream<T> stream, int batchSize) {
+    Assert.notNull(stream, "stream must not be null!");
+    Assert.isTrue(batchSize > 0, "batchSize must be greater than 0!");
+
+    Iterator<T> iterator = stream.iterator();
+    Spliterator<List<T>> spliterator =
+        new Spliterators.AbstractSpliterator<>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+          @Override
+          public boolean tryAdvance(Consumer<? super List<T>> action) {
+            if (!iterator.hasNext()) {
+              return false;
+            }
+            List<T> batch = new ArrayList<>(Math.min(batchSize, 1024));
+            while (batch.size() < batchSize && iterator.hasNext()) {
+              batch.add(iterator.next());
+            }
+            action.accept(batch);
+            return true;
+          }
+        };
+    return StreamSupport.stream(spliterator, false).onClose(stream::close);
+  }
+}
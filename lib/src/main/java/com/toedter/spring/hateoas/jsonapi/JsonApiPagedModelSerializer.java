@@ -20,7 +20,7 @@ import org.springframework.hateoas.PagedModel;
 
 class JsonApiPagedModelSerializer extends AbstractJsonApiModelSerializer<PagedModel<?>> {
 
-  public JsonApiPagedModelSerializer(JsonApiConfiguration jsonApiConfiguration) {
-    super(PagedModel.class, jsonApiConfiguration);
+  public JsonApiPagedModelSerializer(JsonApiRuntimePlan runtimePlan) {
+    super(PagedModel.class, runtimePlan);
   }
 }
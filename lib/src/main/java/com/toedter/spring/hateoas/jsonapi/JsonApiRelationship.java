@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,10 +62,15 @@ class JsonApiRelationship {
   @Nullable
   private final Map<String, Object> meta;
 
-  @JsonIgnore @Nullable private Map<Object, Map<String, Object>> metaForResourceIdentifiers;
+  @JsonIgnore @Nullable private final Map<Object, Map<String, Object>> metaForResourceIdentifiers;
 
   @JsonIgnore private final boolean dataExplicitlySet;
 
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Nullable
+  private final ResolvedLinkage resolvedLinkage;
+
   JsonApiRelationship(
       @Nullable Object data,
       @Nullable Links links,
@@ -79,11 +85,22 @@ class JsonApiRelationship {
       @Nullable Map<String, Object> meta,
       @Nullable Map<Object, Map<String, Object>> metaForResourceIdentifiers,
       boolean dataExplicitlySet) {
+    this(data, links, meta, metaForResourceIdentifiers, dataExplicitlySet, null);
+  }
+
+  JsonApiRelationship(
+      @Nullable Object data,
+      @Nullable Links links,
+      @Nullable Map<String, Object> meta,
+      @Nullable Map<Object, Map<String, Object>> metaForResourceIdentifiers,
+      boolean dataExplicitlySet,
+      @Nullable ResolvedLinkage resolvedLinkage) {
     this.data = data;
     this.links = links;
     this.meta = meta;
     this.metaForResourceIdentifiers = metaForResourceIdentifiers;
     this.dataExplicitlySet = dataExplicitlySet;
+    this.resolvedLinkage = resolvedLinkage;
   }
 
   @JsonCreator
@@ -98,46 +115,63 @@ class JsonApiRelationship {
     return this.addDataObject(object, null);
   }
 
+  /**
+   * Adds a data object with optional resource identifier meta. The relationship is not modified, a
+   * new relationship with a copy of the data is returned.
+   *
+   * @param object the related object
+   * @param metaForResourceIdentifier the meta of the resource identifier, can be {@literal null}
+   * @return a relationship containing the added object
+   */
   public JsonApiRelationship addDataObject(
       @Nullable final Object object, @Nullable Map<String, Object> metaForResourceIdentifier) {
-    if (metaForResourceIdentifier != null && !metaForResourceIdentifier.isEmpty()) {
-      if (metaForResourceIdentifiers == null) {
-        metaForResourceIdentifiers = new HashMap<>();
-      }
-      metaForResourceIdentifiers.put(object, metaForResourceIdentifier);
-    }
+    Map<Object, Map<String, Object>> newMetaForResourceIdentifiers =
+        addMetaForResourceIdentifier(object, metaForResourceIdentifier);
 
     if (this.data == null) {
       return new JsonApiRelationship(
-          object, this.links, this.meta, this.metaForResourceIdentifiers, true);
-    } else {
-      List<Object> dataList = new ArrayList<>();
-      if (!(this.data instanceof Collection<?> collection)) {
-        dataList.add(this.data);
-      } else {
-        dataList.addAll(collection);
-      }
-      dataList.add(object);
-      return new JsonApiRelationship(
-          dataList, this.links, this.meta, this.metaForResourceIdentifiers, true);
+          object, this.links, this.meta, newMetaForResourceIdentifiers, true);
     }
+    List<Object> dataList = copyData(this.data, 1);
+    dataList.add(object);
+    return new JsonApiRelationship(
+        dataList, this.links, this.meta, newMetaForResourceIdentifiers, true);
   }
 
   public JsonApiRelationship addDataCollection(final Collection<?> collection) {
     if (this.data == null) {
       return new JsonApiRelationship(
           collection, this.links, this.meta, this.metaForResourceIdentifiers, true);
-    } else {
-      List<Object> dataList = new ArrayList<>();
-      if (!(this.data instanceof Collection<?>)) {
-        dataList.add(this.data);
-      } else {
-        dataList.addAll((Collection<?>) data);
-      }
+    }
+    List<Object> dataList = copyData(this.data, collection.size());
+    dataList.addAll(collection);
+    return new JsonApiRelationship(
+        dataList, this.links, this.meta, this.metaForResourceIdentifiers, true);
+  }
+
+  static List<Object> copyData(Object data, int additionalCapacity) {
+    if (data instanceof Collection<?> collection) {
+      List<Object> dataList = new ArrayList<>(collection.size() + additionalCapacity);
       dataList.addAll(collection);
-      return new JsonApiRelationship(
-          dataList, this.links, this.meta, this.metaForResourceIdentifiers, true);
+      return dataList;
     }
+    List<Object> dataList = new ArrayList<>(1 + additionalCapacity);
+    dataList.add(data);
+    return dataList;
+  }
+
+  private @Nullable Map<Object, Map<String, Object>> addMetaForResourceIdentifier(
+      @Nullable Object object, @Nullable Map<String, Object> metaForResourceIdentifier) {
+    if (metaForResourceIdentifier == null || metaForResourceIdentifier.isEmpty()) {
+      return this.metaForResourceIdentifiers;
+    }
+    // keyed by identity, so that equals() and hashCode() of entities are never called
+    Map<Object, Map<String, Object>> newMetaForResourceIdentifiers =
+        this.metaForResourceIdentifiers == null
+            ? new IdentityHashMap<>()
+            : new IdentityHashMap<>(this.metaForResourceIdentifiers);
+    newMetaForResourceIdentifiers.put(object, metaForResourceIdentifier);
+    return newMetaForResourceIdentifiers;
   }
 
   public JsonApiRelationship isAlwaysSerializedWithDataArray() {
@@ -177,6 +211,20 @@ class JsonApiRelationship {
         Collections.emptyList(), this.links, this.meta, this.metaForResourceIdentifiers, true);
   }
 
+  /** Returns a copy of this relationship without data, which is not rendered at all. */
+  JsonApiRelationship withoutData() {
+    return new JsonApiRelationship(
+        null, this.links, this.meta, this.metaForResourceIdentifiers, false);
+  }
+
+  @JsonIgnore
+  boolean isEmpty() {
+    return !dataExplicitlySet
+        && data == null
+        && (links == null || links.isEmpty())
+        && (meta == null || meta.isEmpty());
+  }
+
   public static JsonApiRelationship of(EntityModel<?> entityModel) {
     Object content = entityModel.getContent();
     Assert.notNull(
@@ -209,38 +257,97 @@ class JsonApiRelationship {
 
   @JsonIgnore
   public boolean isValid() {
+    return isValid(new JsonApiResourceIdentityCache(new JsonApiConfiguration()));
+  }
+
+  boolean isValid(JsonApiResourceIdentityCache identityCache) {
+    return validate(identityCache).isPresent();
+  }
+
+  /**
+   * Validates this relationship like {@link #isValid()} and keeps the resource identifiers resolved
+   * during validation, so that serialization with a compatible configuration writes them directly.
+   *
+   * @param identityCache the cache used to resolve the ids and types of the related objects
+   * @return the validated relationship, or empty if this relationship is not valid
+   */
+  Optional<JsonApiRelationship> validate(JsonApiResourceIdentityCache identityCache) {
     if (data == null && links == null && meta == null) {
-      return true;
+      return Optional.of(this);
     }
 
+    JsonApiRelationship validated = this;
     if (data != null) {
-      JsonApiConfiguration jsonApiConfiguration = new JsonApiConfiguration();
+      Object resourceIdentifiers;
       try {
-        if (data instanceof Collection<?>) {
-          for (Object jsonApiResource : ((Collection<?>) data)) {
-            toJsonApiResource(jsonApiResource, jsonApiConfiguration);
-          }
-        } else {
-          toJsonApiResource(data, jsonApiConfiguration);
-        }
+        resourceIdentifiers = resolveData(data, identityCache);
       } catch (Exception e) {
-        return false;
+        return Optional.empty();
       }
+      validated =
+          new JsonApiRelationship(
+              data,
+              links,
+              meta,
+              metaForResourceIdentifiers,
+              dataExplicitlySet,
+              new ResolvedLinkage(
+                  data,
+                  sizeOf(data),
+                  identityCache.getJsonApiConfiguration(),
+                  resourceIdentifiers));
     }
 
     if (links != null) {
       final Optional<Link> selfLink = links.getLink("self");
       final Optional<Link> relatedLink = links.getLink("related");
-      return selfLink.isPresent() || relatedLink.isPresent();
+      if (selfLink.isEmpty() && relatedLink.isEmpty()) {
+        return Optional.empty();
+      }
     }
 
     // We allow null meta and non-null but empty meta,
     // so there is nothing to check related to meta.
-    return true;
+    return Optional.of(validated);
+  }
+
+  /**
+   * Returns the resource identifiers resolved by {@link #validate(JsonApiResourceIdentityCache)},
+   * if they are still valid for the current data and the given configuration.
+   *
+   * @param jsonApiConfiguration the configuration used for serialization
+   * @return a resource identifier, a list of resource identifiers, or {@literal null}
+   */
+  @Nullable Object getResolvedData(JsonApiConfiguration jsonApiConfiguration) {
+    if (resolvedLinkage == null
+        || resolvedLinkage.data() != data
+        || resolvedLinkage.size() != sizeOf(data)
+        || !resolvedLinkage
+            .jsonApiConfiguration()
+            .resolvesResourceIdentifiersLike(jsonApiConfiguration)) {
+      return null;
+    }
+    return resolvedLinkage.resourceIdentifiers();
+  }
+
+  Object resolveData(Object data, JsonApiResourceIdentityCache identityCache) {
+    if (data instanceof Collection<?> collection) {
+      return toJsonApiResourceCollection(collection, identityCache);
+    }
+    return toJsonApiResource(data, identityCache);
+  }
+
+  private static int sizeOf(@Nullable Object data) {
+    return data instanceof Collection<?> collection ? collection.size() : 1;
   }
 
   JsonApiResourceIdentifier toJsonApiResource(
       Object data, JsonApiConfiguration jsonApiConfiguration) {
+    return toJsonApiResource(data, new JsonApiResourceIdentityCache(jsonApiConfiguration));
+  }
+
+  JsonApiResourceIdentifier toJsonApiResource(
+      Object data, JsonApiResourceIdentityCache identityCache) {
     Map<String, Object> localMeta = null;
     if (metaForResourceIdentifiers != null) {
       localMeta = metaForResourceIdentifiers.get(data);
@@ -248,20 +355,25 @@ class JsonApiRelationship {
 
     // JsonApiResource.getId() and getType() will throw IllegalStateExceptions
     // if the id or type cannot be retrieved.
-    String id = JsonApiResourceIdentifier.getId(data, jsonApiConfiguration).value;
-    String type = JsonApiResourceIdentifier.getType(data, jsonApiConfiguration).value;
+    String id = identityCache.getId(data).value;
+    String type = identityCache.getType(data).value;
     return new JsonApiResourceIdentifier(id, type, localMeta);
   }
 
   List<JsonApiResourceIdentifier> toJsonApiResourceCollection(
       Collection<?> collection, JsonApiConfiguration jsonApiConfiguration) {
+    return toJsonApiResourceCollection(
+        collection, new JsonApiResourceIdentityCache(jsonApiConfiguration));
+  }
+
+  List<JsonApiResourceIdentifier> toJsonApiResourceCollection(
+      Collection<?> collection, JsonApiResourceIdentityCache identityCache) {
     List<JsonApiResourceIdentifier> dataList = new ArrayList<>();
 
     // Don't add duplicates with the same JSON:API id and type.
     HashMap<String, JsonApiResourceIdentifier> values = new HashMap<>();
     for (Object object : collection) {
-      JsonApiResourceIdentifier resourceIdentifier =
-          toJsonApiResource(object, jsonApiConfiguration);
+      JsonApiResourceIdentifier resourceIdentifier = toJsonApiResource(object, identityCache);
       if (values.get(resourceIdentifier.getId() + "." + resourceIdentifier.getType()) == null) {
         dataList.add(resourceIdentifier);
         values.put(
@@ -270,4 +382,14 @@ class JsonApiRelationship {
     }
     return dataList;
   }
+
+  /**
+   * The resource identifiers resolved for {@literal data}. The data instance and its size are kept
+   * to detect a later replacement or modification of the data.
+   */
+  record ResolvedLinkage(
+      Object data,
+      int size,
+      JsonApiConfiguration jsonApiConfiguration,
+      Object resourceIdentifiers) {}
 }
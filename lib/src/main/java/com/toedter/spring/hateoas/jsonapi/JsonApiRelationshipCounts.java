@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Provides the number of related resources of one relationship for all resources of a page, loaded
+ * with one call of a batch count function, e.g. a grouped count query. The counts are rendered as
+ * relationship {@literal meta} with {@link JsonApiModelBuilder#relationshipCount(String,
+ * LongSupplier)}. The batch count function is invoked lazily, when the first count is needed.
+ *
+ * <pre>{@code
+ * JsonApiRelationshipCounts<Movie> directorCounts =
+ *     JsonApiRelationshipCounts.of(movies, Movie::getId, directorRepository::countByMovieIds);
+ *
+ * jsonApiModel().model(movie).relationshipCount("directors", directorCounts.countOf(movie));
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe, they are meant to be used while rendering one response.
+ *
+ * @param <T> the resource type
+ * @author Kai Toedter
+ */
+public class JsonApiRelationshipCounts<T> {
+
+  private final Function<? super T, ?> idExtractor;
+  private final Set<Object> ids;
+  private final Function<Set<Object>, ? extends Map<?, ? extends Number>> batchCounter;
+  @Nullable private Map<?, ? extends Number> counts;
+
+  private JsonApiRelationshipCounts(
+      Function<? super T, ?> idExtractor,
+      Set<Object> ids,
+      Function<Set<Object>, ? extends Map<?, ? extends Number>> batchCounter) {
+    this.idExtractor = idExtractor;
+    this.ids = ids;
+    this.batchCounter = batchCounter;
+  }
+
+  /**
+   * Creates the relationship counts for the given resources.
+   *
+   * @param resources the resources of the page, must not be {@literal null}.
+   * @param idExtractor extracts the id of a resource, must not be {@literal null}.
+   * @param batchCounter counts the related resources for all given ids in one call, must not be
+   *     {@literal null}. Ids missing in the result have a count of 0.
+   * @param <T> the resource type
+   * @param <I> the id type
+   * @return will never be {@literal null}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, I> JsonApiRelationshipCounts<T> of(
+      Iterable<? extends T> resources,
+      Function<? super T, ? extends I> idExtractor,
+      Function<Set<I>, ? extends Map<I, ? extends Number>> batchCounter) {
+    Assert.notNull(resources, "resources must not be null!");
+    Assert.notNull(idExtractor, "idExtractor must not be null!");
+    Assert.notNull(batchCounter, "batchCounter must not be null!");
+
+    Set<Object> ids = new LinkedHashSet<>();
+    for (T resource : resources) {
+      ids.add(idExtractor.apply(resource));
+    }
+    return new JsonApiRelationshipCounts<>(
+        idExtractor, ids, idSet -> batchCounter.apply((Set<I>) idSet));
+  }
+
+  /**
+   * Returns the count of related resources for the given resource.
+   *
+   * @param resource one of the resources these counts were created for, must not be {@literal
+   *     null}.
+   * @return will never be {@literal null}.
+   */
+  public LongSupplier countOf(T resource) {
+    Assert.notNull(resource, "resource must not be null!");
+    Object id = idExtractor.apply(resource);
+    return () -> getCount(id);
+  }
+
+  private long getCount(Object id) {
+    if (!ids.contains(id)) {
+      throw new IllegalArgumentException("No relationship count requested for id " + id);
+    }
+    if (counts == null) {
+      counts = batchCounter.apply(ids);
+      Assert.state(counts != null, "Batch counter must not return null!");
+    }
+    Number count = counts.get(id);
+    return count != null ? count.longValue() : 0;
+  }
+}
@@ -16,7 +16,6 @@
 
 package com.toedter.spring.hateoas.jsonapi;
 
-import java.util.Collection;
 import java.util.Map;
 import org.springframework.hateoas.Links;
 import tools.jackson.core.JsonGenerator;
@@ -36,11 +35,13 @@ class JsonApiRelationshipSerializer extends AbstractJsonApiSerializer<JsonApiRel
       JsonApiRelationship value, JsonGenerator gen, SerializationContext provider) {
     Object data = value.getData();
     if (data != null) {
-      if (data instanceof Collection) {
-        data = value.toJsonApiResourceCollection((Collection<?>) data, jsonApiConfiguration);
-      } else {
-        data = value.toJsonApiResource(data, jsonApiConfiguration);
-      }
+      // identifiers resolved when the relationship was validated are written directly
+      Object resolvedData = value.getResolvedData(jsonApiConfiguration);
+      data =
+          resolvedData != null
+              ? resolvedData
+              : value.resolveData(
+                  data, JsonApiResourceIdentityCache.of(provider, jsonApiConfiguration));
     }
 
     // Start writing the relationship object.
@@ -49,21 +50,21 @@ class JsonApiRelationshipSerializer extends AbstractJsonApiSerializer<JsonApiRel
     // Handle data field serialization.
     // Serialize data if explicitly set (even if null) or if data is present.
     if (value.isDataExplicitlySet() || data != null) {
-      gen.writeName("data");
+      gen.writeName(JsonApiTokens.DATA);
       gen.writePOJO(data);
     }
 
     // Handle links field serialization.
     Links links = value.getLinks();
     if (links != null && !links.isEmpty()) {
-      gen.writeName("links");
+      gen.writeName(JsonApiTokens.LINKS);
       gen.writePOJO(links);
     }
 
     // Handle meta field serialization.
     Map<String, Object> meta = value.getMeta();
     if (meta != null && !meta.isEmpty()) {
-      gen.writeName("meta");
+      gen.writeName(JsonApiTokens.META);
       gen.writePOJO(meta);
     }
 
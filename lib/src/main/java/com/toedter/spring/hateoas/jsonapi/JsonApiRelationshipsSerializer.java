@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.Map;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+
+/**
+ * Serializes the relationships object of a resource. Unlike a map serializer, which encodes every
+ * key again, the relationship names are written as pre-encoded {@link JsonApiTokens#name(String)
+ * names}.
+ *
+ * @author Kai Toedter
+ */
+class JsonApiRelationshipsSerializer extends AbstractJsonApiSerializer<Object> {
+
+  JsonApiRelationshipsSerializer() {
+    super(Object.class);
+  }
+
+  @Override
+  public void serialize(Object value, JsonGenerator gen, SerializationContext provider) {
+    if (!(value instanceof Map<?, ?> relationships)) {
+      gen.writePOJO(value);
+      return;
+    }
+
+    gen.writeStartObject();
+    for (Map.Entry<?, ?> relationship : relationships.entrySet()) {
+      gen.writeName(JsonApiTokens.name(String.valueOf(relationship.getKey())));
+      gen.writePOJO(relationship.getValue());
+    }
+    gen.writeEndObject();
+  }
+
+  @Override
+  public boolean isEmpty(SerializationContext provider, Object value) {
+    return value instanceof Map<?, ?> relationships && relationships.isEmpty();
+  }
+}
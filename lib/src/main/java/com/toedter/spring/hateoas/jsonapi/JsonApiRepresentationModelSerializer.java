@@ -21,7 +21,7 @@ import org.springframework.hateoas.RepresentationModel;
 class JsonApiRepresentationModelSerializer
     extends AbstractJsonApiModelSerializer<RepresentationModel<?>> {
 
-  public JsonApiRepresentationModelSerializer(JsonApiConfiguration jsonApiConfiguration) {
-    super(RepresentationModel.class, jsonApiConfiguration);
+  public JsonApiRepresentationModelSerializer(JsonApiRuntimePlan runtimePlan) {
+    super(RepresentationModel.class, runtimePlan);
   }
 }
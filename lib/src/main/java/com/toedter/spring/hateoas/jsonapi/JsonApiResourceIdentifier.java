@@ -30,6 +30,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Value;
@@ -83,11 +84,25 @@ class JsonApiResourceIdentifier {
   }
 
   static ResourceField getId(Object object, JsonApiConfiguration jsonApiConfiguration) {
-    return getResourceField(JsonApiResourceField.ID, object, jsonApiConfiguration);
+    return getId(object, jsonApiConfiguration, jsonApiConfiguration::getJsonMapper);
+  }
+
+  static ResourceField getId(
+      Object object,
+      JsonApiConfiguration jsonApiConfiguration,
+      Supplier<JsonMapper> jsonMapper) {
+    return getResourceField(JsonApiResourceField.ID, object, jsonApiConfiguration, jsonMapper);
   }
 
   static ResourceField getType(Object object, JsonApiConfiguration jsonApiConfiguration) {
-    return getResourceField(JsonApiResourceField.TYPE, object, jsonApiConfiguration);
+    return getType(object, jsonApiConfiguration, jsonApiConfiguration::getJsonMapper);
+  }
+
+  static ResourceField getType(
+      Object object,
+      JsonApiConfiguration jsonApiConfiguration,
+      Supplier<JsonMapper> jsonMapper) {
+    return getResourceField(JsonApiResourceField.TYPE, object, jsonApiConfiguration, jsonMapper);
   }
 
   enum JsonApiResourceField {
@@ -98,7 +113,8 @@ class JsonApiResourceIdentifier {
   private static ResourceField getResourceField(
       JsonApiResourceField resourceField,
       Object object,
-      JsonApiConfiguration jsonApiConfiguration) {
+      JsonApiConfiguration jsonApiConfiguration,
+      Supplier<JsonMapper> jsonMapperSupplier) {
     try {
       // Check for class-based JSON:API type annotation.
       if (resourceField == JsonApiResourceField.TYPE
@@ -107,8 +123,6 @@ class JsonApiResourceIdentifier {
         return new ResourceField(TYPE_LITERAL, annotation.value());
       }
 
-      JsonMapper jsonMapper = jsonApiConfiguration.getJsonMapper();
-
       // Then search for field annotation.
       final Field[] declaredFields = getAllDeclaredFields(object.getClass());
       Field jpaIdField = null;
@@ -124,11 +138,11 @@ class JsonApiResourceIdentifier {
             }
             if (JSONAPI_ID_ANNOTATION.equals(annotationName)) {
               return new ResourceField(
-                  field.getName(), getObjAsString(jsonMapper, field.get(object)));
+                  field.getName(), getObjAsString(jsonMapperSupplier, field.get(object)));
             }
           } else if (JSONAPI_TYPE_ANNOTATION.equals(annotationName)) {
             return new ResourceField(
-                field.getName(), getObjAsString(jsonMapper, field.get(object)));
+                field.getName(), getObjAsString(jsonMapperSupplier, field.get(object)));
           }
         }
       }
@@ -160,7 +174,7 @@ class JsonApiResourceIdentifier {
       // which is why they are evaluated later.
       if (jpaIdField != null) {
         return new ResourceField(
-            jpaIdField.getName(), getObjAsString(jsonMapper, jpaIdField.get(object)));
+            jpaIdField.getName(), getObjAsString(jsonMapperSupplier, jpaIdField.get(object)));
       }
 
       if (jpaIdMethod != null) {
@@ -273,6 +287,54 @@ class JsonApiResourceIdentifier {
     }
   }
 
+  /**
+   * Determines the name of the Java property that holds the JSON:API id or type for the given
+   * class, without needing an instance. The lookup follows the same precedence as {@link
+   * #setJsonApiResourceFieldAttributeForObject(Object, JsonApiResourceField, String, JsonMapper)}.
+   *
+   * @return the property name or {@literal null}, if no matching property exists
+   */
+  static @Nullable String getResourceFieldName(Class<?> clazz, JsonApiResourceField name) {
+    for (Field field : getAllDeclaredFields(clazz)) {
+      if (isResourceFieldAnnotated(field.getAnnotations(), name)) {
+        return field.getName();
+      }
+    }
+
+    for (Method method : getAllDeclaredMethods(clazz)) {
+      if (isResourceFieldAnnotated(method.getAnnotations(), name)
+          && method.getParameterCount() == 0
+          && method.getReturnType() != void.class) {
+        String methodName = method.getName();
+        if (methodName.startsWith("get") && methodName.length() > 3) {
+          return StringUtils.uncapitalize(methodName.substring(3));
+        }
+        return methodName;
+      }
+    }
+
+    if (name == JsonApiResourceField.ID && findField(clazz, ID_LITERAL) != null) {
+      return ID_LITERAL;
+    }
+    return null;
+  }
+
+  private static boolean isResourceFieldAnnotated(
+      Annotation[] annotations, JsonApiResourceField name) {
+    for (Annotation annotation : annotations) {
+      final String annotationName = annotation.annotationType().getCanonicalName();
+      if ((name == JsonApiResourceField.ID
+              && (JPA_ID_ANNOTATION.equals(annotationName)
+                  || JPA_EMBEDDED_ID_ANNOTATION.equals(annotationName)
+                  || JSONAPI_ID_ANNOTATION.equals(annotationName)))
+          || (name == JsonApiResourceField.TYPE
+              && JSONAPI_TYPE_ANNOTATION.equals(annotationName))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static void setFieldValue(
       Object object, @Nullable String value, Field field, JsonMapper jsonMapper)
       throws IllegalAccessException {
@@ -289,7 +351,8 @@ class JsonApiResourceIdentifier {
     field.set(object, convertedValue);
   }
 
-  private static String getObjAsString(JsonMapper jsonMapper, Object obj) {
+  private static String getObjAsString(Supplier<JsonMapper> jsonMapperSupplier, Object obj) {
+    JsonMapper jsonMapper = jsonMapperSupplier.get();
     String json = jsonMapper.writeValueAsString(obj);
     // Parse it back to determine the JSON type
     JsonNode node = jsonMapper.readTree(json);
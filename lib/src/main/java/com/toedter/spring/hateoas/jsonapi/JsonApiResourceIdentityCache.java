@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Caches the JSON:API {@literal id} and {@literal type} of object instances for the duration of one
+ * serialization (or one {@link JsonApiModelBuilder#build()}), so that the same entity referenced
+ * from primary data, relationships, and included resources is introspected only once. Objects are
+ * compared by identity, and the cache is not thread-safe.
+ */
+final class JsonApiResourceIdentityCache {
+
+  private static final Class<JsonApiResourceIdentityCache> ATTRIBUTE_KEY =
+      JsonApiResourceIdentityCache.class;
+
+  private final JsonApiConfiguration jsonApiConfiguration;
+  private final Map<Object, JsonApiResourceIdentifier.ResourceField> ids = new IdentityHashMap<>();
+  private final Map<Object, JsonApiResourceIdentifier.ResourceField> types =
+      new IdentityHashMap<>();
+
+  @Nullable private JsonMapper jsonMapper;
+
+  JsonApiResourceIdentityCache(JsonApiConfiguration jsonApiConfiguration) {
+    this.jsonApiConfiguration = jsonApiConfiguration;
+  }
+
+  /**
+   * Gets the cache of the current serialization, creating it on first use.
+   *
+   * @param provider the context of the current serialization
+   * @param jsonApiConfiguration the configuration used to compute ids and types
+   * @return will never be {@literal null}.
+   */
+  static JsonApiResourceIdentityCache of(
+      SerializationContext provider, JsonApiConfiguration jsonApiConfiguration) {
+    Object cache = provider.getAttribute(ATTRIBUTE_KEY);
+    if (cache instanceof JsonApiResourceIdentityCache identityCache) {
+      return identityCache;
+    }
+    JsonApiResourceIdentityCache identityCache =
+        new JsonApiResourceIdentityCache(jsonApiConfiguration);
+    provider.setAttribute(ATTRIBUTE_KEY, identityCache);
+    return identityCache;
+  }
+
+  JsonApiConfiguration getJsonApiConfiguration() {
+    return jsonApiConfiguration;
+  }
+
+  JsonApiResourceIdentifier.ResourceField getId(Object object) {
+    JsonApiResourceIdentifier.ResourceField id = ids.get(object);
+    if (id == null) {
+      // failures are not cached, they are reported on each access
+      id = JsonApiResourceIdentifier.getId(object, jsonApiConfiguration, this::getJsonMapper);
+      ids.put(object, id);
+    }
+    return id;
+  }
+
+  JsonApiResourceIdentifier.ResourceField getType(Object object) {
+    JsonApiResourceIdentifier.ResourceField type = types.get(object);
+    if (type == null) {
+      type = JsonApiResourceIdentifier.getType(object, jsonApiConfiguration, this::getJsonMapper);
+      types.put(object, type);
+    }
+    return type;
+  }
+
+  private JsonMapper getJsonMapper() {
+    // only needed for annotated ids, and expensive to build
+    if (jsonMapper == null) {
+      jsonMapper = jsonApiConfiguration.getJsonMapper();
+    }
+    return jsonMapper;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Registers the reflection this library needs at runtime for GraalVM native images: the internal
+ * types bound by Jackson, the serializers and mixins registered in {@link JacksonJsonApiModule},
+ * and the annotations looked up by name. The user resource classes are registered by {@link
+ * JsonApiBeanFactoryInitializationAotProcessor}.
+ *
+ * @author Kai Toedter
+ */
+class JsonApiRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final BindingReflectionHintsRegistrar BINDING_REGISTRAR =
+      new BindingReflectionHintsRegistrar();
+
+  private static final Class<?>[] BOUND_TYPES = {
+    JsonApiDocument.class,
+    JsonApiData.class,
+    JsonApiRelationship.class,
+    JsonApiResourceIdentifier.class,
+    JsonApiObject.class,
+    JsonApiError.class,
+    JsonApiErrors.class,
+    JsonApiAtomicOperation.class,
+    JsonApiAtomicOperations.class,
+    JsonApiAtomicResults.class,
+    JsonApiAffordanceModel.PropertyData.class,
+    JsonApiLinksSerializer.SpringHateoasAffordance.class
+  };
+
+  // only the annotations of the mixins are read
+  private static final Class<?>[] MIXIN_TYPES = {
+    JacksonJsonApiModule.EntityModelMixin.class,
+    JacksonJsonApiModule.RepresentationModelMixin.class,
+    JacksonJsonApiModule.CollectionModelMixin.class,
+    JacksonJsonApiModule.PagedModelMixin.class
+  };
+
+  private static final Class<?>[] INSTANTIATED_TYPES = {
+    JsonApiEntityModelSerializer.class,
+    JsonApiRepresentationModelSerializer.class,
+    JsonApiCollectionModelSerializer.class,
+    JsonApiPagedModelSerializer.class,
+    JsonApiEntityModelDeserializer.class,
+    JsonApiRepresentationModelDeserializer.class,
+    JsonApiCollectionModelDeserializer.class,
+    JsonApiPagedModelDeserializer.class,
+    JsonApiDocumentDataDeserializer.class,
+    JsonApiRelationshipsSerializer.class,
+    JsonApiAffordanceModelFactory.class
+  };
+
+  // annotations that are looked up by name, e.g. the JPA id
+  private static final String[] ANNOTATIONS_LOOKED_UP_BY_NAME = {
+    JsonApiResourceIdentifier.JPA_ID_ANNOTATION,
+    JsonApiResourceIdentifier.JPA_EMBEDDED_ID_ANNOTATION
+  };
+
+  @Override
+  public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+    ReflectionHints reflection = hints.reflection();
+
+    BINDING_REGISTRAR.registerReflectionHints(reflection, BOUND_TYPES);
+    for (Class<?> type : BOUND_TYPES) {
+      reflection.registerType(type, MemberCategory.ACCESS_DECLARED_FIELDS);
+    }
+
+    for (Class<?> type : MIXIN_TYPES) {
+      reflection.registerType(type);
+    }
+
+    for (Class<?> type : INSTANTIATED_TYPES) {
+      reflection.registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+    }
+
+    for (String annotation : ANNOTATIONS_LOOKED_UP_BY_NAME) {
+      reflection.registerType(TypeReference.of(annotation));
+    }
+  }
+
+  /**
+   * Registers the reflection needed to serialize and deserialize the given resource classes:
+   * Jackson binding, the fields and methods read with {@literal setAccessible} (e.g. {@link
+   * JsonApiId} or {@link JsonApiMeta}), and the default constructor used for deserialization.
+   *
+   * @param reflection must not be {@literal null}.
+   * @param resourceClasses must not be {@literal null}.
+   */
+  static void registerResourceHints(
+      ReflectionHints reflection, Iterable<Class<?>> resourceClasses) {
+    for (Class<?> resourceClass : resourceClasses) {
+      BINDING_REGISTRAR.registerReflectionHints(reflection, resourceClass);
+      reflection.registerType(
+          resourceClass,
+          MemberCategory.ACCESS_DECLARED_FIELDS,
+          MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+          MemberCategory.INVOKE_DECLARED_METHODS,
+          MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+  }
+}
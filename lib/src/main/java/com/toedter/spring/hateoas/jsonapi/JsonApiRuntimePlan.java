@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+
+/**
+ * The facts the serializers need from a {@link JsonApiConfiguration}, derived once when the
+ * serializers are created instead of on every serialization. Since {@link JsonApiConfiguration} is
+ * immutable, the plan never gets stale.
+ */
+@Slf4j
+@Getter
+final class JsonApiRuntimePlan {
+
+  // see https://jsonapi.org/format/#document-top-level
+  private static final Set<String> TOP_LEVEL_LINK_RELATIONS =
+      caseInsensitiveSetOf("self", "related", "describedby", "first", "last", "prev", "next");
+
+  private final JsonApiConfiguration jsonApiConfiguration;
+  @Nullable private final JsonApiObject renderedJsonApiObject;
+  private final boolean jsonApiCompliantLinks;
+  private final boolean linksAtResourceLevel;
+  private final boolean pageMetaAutomaticallyCreated;
+
+  private JsonApiRuntimePlan(JsonApiConfiguration jsonApiConfiguration) {
+    this.jsonApiConfiguration = jsonApiConfiguration;
+    this.renderedJsonApiObject = getRenderedJsonApiObject(jsonApiConfiguration);
+    this.jsonApiCompliantLinks = jsonApiConfiguration.isJsonApiCompliantLinks();
+    this.linksAtResourceLevel = jsonApiConfiguration.isLinksAtResourceLevel();
+    this.pageMetaAutomaticallyCreated = jsonApiConfiguration.isPageMetaAutomaticallyCreated();
+  }
+
+  static JsonApiRuntimePlan of(JsonApiConfiguration jsonApiConfiguration) {
+    return new JsonApiRuntimePlan(jsonApiConfiguration);
+  }
+
+  /**
+   * Returns the {@literal jsonapi} object if at least one of its members is set, {@literal null}
+   * otherwise.
+   */
+  static @Nullable JsonApiObject getRenderedJsonApiObject(
+      JsonApiConfiguration jsonApiConfiguration) {
+    JsonApiObject jsonApiObject = jsonApiConfiguration.getJsonApiObject();
+    if (jsonApiObject != null
+        && (jsonApiObject.getVersion() != null
+            || jsonApiObject.getExt() != null
+            || jsonApiObject.getProfile() != null
+            || jsonApiObject.getMeta() != null)) {
+      return jsonApiObject;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the links to render at the top level of a document, or {@literal null} if there are
+   * none.
+   */
+  @Nullable Links getTopLevelLinks(Links links) {
+    if (links.isEmpty()) {
+      return null;
+    }
+
+    // breaking change: JSON:API only allows specific links at (document) top-level!,
+    // see https://jsonapi.org/format/#document-top-level.
+    // Those links are self, related, describedby, and
+    // the pagination links first, last, prev, and next.
+    // All other top-level links are not allowed and therefore removed.
+    return jsonApiCompliantLinks ? filterTopLevelLinks(links) : links;
+  }
+
+  static boolean isTopLevelLinkRelation(LinkRelation rel) {
+    return TOP_LEVEL_LINK_RELATIONS.contains(rel.value());
+  }
+
+  /**
+   * Keeps the first link of each valid top-level relation, in a single pass over the links.
+   *
+   * @param links must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  static Links filterTopLevelLinks(Links links) {
+    List<Link> validLinks = new ArrayList<>();
+    Set<String> rels = caseInsensitiveSetOf();
+    for (Link link : links) {
+      String rel = link.getRel().value();
+      if (isTopLevelLinkRelation(link.getRel()) && rels.add(rel)) {
+        validLinks.add(link);
+      } else {
+        log.warn("removed invalid JSON:API top-level link: {}", link.getRel());
+      }
+    }
+    return validLinks.size() == links.toList().size() ? links : Links.of(validLinks);
+  }
+
+  /**
+   * Keeps only the self links, since JSON:API only allows a self link within resources, see
+   * https://jsonapi.org/format/#document-resource-object-links.
+   *
+   * @param links must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  static Links filterResourceLinks(Links links) {
+    List<Link> validLinks = new ArrayList<>();
+    for (Link link : links) {
+      if (link.hasRel("self")) {
+        validLinks.add(link);
+      } else {
+        log.warn("removed invalid JSON:API resource-level link: {}", link.getRel());
+      }
+    }
+    return validLinks.isEmpty() ? Links.NONE : Links.of(validLinks);
+  }
+
+  private static Set<String> caseInsensitiveSetOf(String... values) {
+    Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    set.addAll(List.of(values));
+    return set;
+  }
+}
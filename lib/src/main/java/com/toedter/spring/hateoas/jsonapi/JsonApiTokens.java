@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+
+/**
+ * Pre-encoded member names of the JSON:API vocabulary. A {@link SerializedString} caches its
+ * encoded representations, so writing it with {@link
+ * tools.jackson.core.JsonGenerator#writeName(SerializableString)} skips encoding the name again
+ * for every resource.
+ */
+final class JsonApiTokens {
+
+  static final SerializableString JSONAPI = new SerializedString("jsonapi");
+  static final SerializableString DATA = new SerializedString("data");
+  static final SerializableString INCLUDED = new SerializedString("included");
+  static final SerializableString LINKS = new SerializedString("links");
+  static final SerializableString META = new SerializedString("meta");
+  static final SerializableString HREF = new SerializedString("href");
+  static final SerializableString TITLE = new SerializedString("title");
+  static final SerializableString TYPE = new SerializedString("type");
+  static final SerializableString HREFLANG = new SerializedString("hreflang");
+  static final SerializableString MEDIA = new SerializedString("media");
+  static final SerializableString DEPRECATION = new SerializedString("deprecation");
+  static final SerializableString PROFILE = new SerializedString("profile");
+  static final SerializableString NAME = new SerializedString("name");
+  static final SerializableString IS_TEMPLATED = new SerializedString("isTemplated");
+  static final SerializableString AFFORDANCES = new SerializedString("affordances");
+  static final SerializableString HAL_FORMS_TEMPLATES = new SerializedString("hal-forms-templates");
+
+  static final int MAX_INTERNED_NAMES = 1024;
+
+  private static final Map<String, SerializableString> INTERNED_NAMES = new ConcurrentHashMap<>();
+
+  static {
+    for (String rel :
+        new String[] {"self", "related", "describedby", "first", "prev", "next", "last"}) {
+      INTERNED_NAMES.put(rel, new SerializedString(rel));
+    }
+  }
+
+  private JsonApiTokens() {}
+
+  /**
+   * Returns a pre-encoded name for a member name that is not part of the fixed vocabulary, like a
+   * link relation. Names are interned up to a maximum number, the cache is cleared when it is full.
+   *
+   * @param name must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  static SerializableString name(String name) {
+    SerializableString serializableName = INTERNED_NAMES.get(name);
+    if (serializableName == null) {
+      serializableName = new SerializedString(name);
+      if (INTERNED_NAMES.size() >= MAX_INTERNED_NAMES) {
+        INTERNED_NAMES.clear();
+      }
+      INTERNED_NAMES.put(name, serializableName);
+    }
+    return serializableName;
+  }
+}
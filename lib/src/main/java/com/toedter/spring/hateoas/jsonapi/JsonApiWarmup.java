@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.SmartHttpMessageConverter;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Warms up the JSON:API message converters when the application is ready. Spring Boot publishes
+ * the {@literal ApplicationReadyEvent} before the readiness state changes to accepting traffic, so
+ * the Jackson serializers and deserializers of all resource classes are built before the first
+ * request arrives.
+ *
+ * <p>For every resource class, i.e. every class mapped with {@link
+ * JsonApiConfiguration#withTypeForClass(Class, String)} and every resource class found in the
+ * application packages (see {@link JsonApiBeanFactoryInitializationAotProcessor}), a synthetic
+ * instance is written as {@link EntityModel} and {@link CollectionModel} and read back through the
+ * registered message converters. The warm-up is only done if {@link
+ * JsonApiConfiguration#isSerializersWarmedUpAtStartup()} is set.
+ *
+ * @author Kai Toedter
+ */
+@Slf4j
+class JsonApiWarmup implements SmartApplicationListener {
+
+  private static final String APPLICATION_READY_EVENT =
+      "org.springframework.boot.context.event.ApplicationReadyEvent";
+
+  private static final boolean WEB_MVC_PRESENT =
+      ClassUtils.isPresent(
+          "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter",
+          JsonApiWarmup.class.getClassLoader());
+
+  private final ConfigurableListableBeanFactory beanFactory;
+  private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+  JsonApiWarmup(ConfigurableListableBeanFactory beanFactory) {
+    this.beanFactory = beanFactory;
+  }
+
+  @Override
+  public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+    return APPLICATION_READY_EVENT.equals(eventType.getName());
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationEvent event) {
+    JsonApiConfiguration jsonApiConfiguration =
+        beanFactory
+            .getBeanProvider(JsonApiConfiguration.class)
+            .getIfAvailable(JsonApiConfiguration::new);
+    if (!jsonApiConfiguration.isSerializersWarmedUpAtStartup()
+        || !WEB_MVC_PRESENT
+        || !warmedUp.compareAndSet(false, true)) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    Set<Class<?>> resourceClasses =
+        new LinkedHashSet<>(jsonApiConfiguration.getClassesWithTypeForClass());
+    resourceClasses.addAll(
+        JsonApiBeanFactoryInitializationAotProcessor.findResourceClasses(beanFactory));
+    Map<Class<?>, Duration> timings =
+        warmUp(WebMvcMessageConverters.get(beanFactory), resourceClasses);
+    timings.forEach(
+        (type, duration) -> log.info("warmed up {} in {} ms", type.getName(), duration.toMillis()));
+    log.info(
+        "warmed up JSON:API serializers for {} resource classes in {} ms",
+        timings.size(),
+        Duration.ofNanos(System.nanoTime() - start).toMillis());
+  }
+
+  /**
+   * Writes and reads synthetic instances of the given resource classes with the first converter
+   * that can write them as JSON:API.
+   *
+   * @param converters the message converters, must not be {@literal null}.
+   * @param resourceClasses the resource classes, must not be {@literal null}.
+   * @return the time needed per warmed up resource class, classes that could not be instantiated
+   *     or serialized are not contained.
+   */
+  static Map<Class<?>, Duration> warmUp(
+      List<HttpMessageConverter<?>> converters, Collection<Class<?>> resourceClasses) {
+    Map<Class<?>, Duration> timings = new LinkedHashMap<>();
+    for (Class<?> resourceClass : resourceClasses) {
+      long start = System.nanoTime();
+      try {
+        Object resource = instantiate(resourceClass);
+        ResolvableType entityModelType =
+            ResolvableType.forClassWithGenerics(EntityModel.class, resourceClass);
+        ResolvableType collectionModelType =
+            ResolvableType.forClassWithGenerics(CollectionModel.class, entityModelType);
+
+        SmartHttpMessageConverter<Object> converter = findConverter(converters, entityModelType);
+        if (converter == null) {
+          continue;
+        }
+        EntityModel<Object> entityModel = EntityModel.of(resource);
+        roundTrip(converter, entityModel, entityModelType);
+        roundTrip(converter, CollectionModel.of(List.of(entityModel)), collectionModelType);
+        timings.put(resourceClass, Duration.ofNanos(System.nanoTime() - start));
+      } catch (Exception | LinkageError e) {
+        log.debug("cannot warm up JSON:API serializers for {}", resourceClass, e);
+      }
+    }
+    return timings;
+  }
+
+  private static Object instantiate(Class<?> resourceClass) {
+    // unset arguments of primitive types are replaced by their default values
+    Constructor<?> constructor = BeanUtils.getResolvableConstructor(resourceClass);
+    return BeanUtils.instantiateClass(constructor, new Object[constructor.getParameterCount()]);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nullable SmartHttpMessageConverter<Object> findConverter(
+      List<HttpMessageConverter<?>> converters, ResolvableType type) {
+    for (HttpMessageConverter<?> converter : converters) {
+      if (converter instanceof SmartHttpMessageConverter<?> smartConverter
+          && smartConverter.canWrite(type, EntityModel.class, MediaTypes.JSON_API)
+          && smartConverter.canRead(type, MediaTypes.JSON_API)) {
+        return (SmartHttpMessageConverter<Object>) smartConverter;
+      }
+    }
+    return null;
+  }
+
+  private static void roundTrip(
+      SmartHttpMessageConverter<Object> converter,
+      RepresentationModel<?> model,
+      ResolvableType type)
+      throws IOException {
+    BufferedOutputMessage outputMessage = new BufferedOutputMessage();
+    converter.write(model, type, MediaTypes.JSON_API, outputMessage, null);
+    converter.read(type, new BufferedInputMessage(outputMessage), null);
+  }
+
+  private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+    private final HttpHeaders headers = new HttpHeaders();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public OutputStream getBody() {
+      return body;
+    }
+  }
+
+  private static final class BufferedInputMessage implements HttpInputMessage {
+
+    private final HttpHeaders headers = new HttpHeaders();
+    private final byte[] body;
+
+    BufferedInputMessage(BufferedOutputMessage outputMessage) {
+      headers.setContentType(MediaTypes.JSON_API);
+      body = outputMessage.body.toByteArray();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+      return new ByteArrayInputStream(body);
+    }
+  }
+
+  // only loaded if Spring Web MVC is on the classpath
+  private static class WebMvcMessageConverters {
+
+    static List<HttpMessageConverter<?>> get(ConfigurableListableBeanFactory beanFactory) {
+      return beanFactory.getBeansOfType(RequestMappingHandlerAdapter.class).values().stream()
+          .findFirst()
+          .map(RequestMappingHandlerAdapter::getMessageConverters)
+          .orElse(Collections.emptyList());
+    }
+  }
+}
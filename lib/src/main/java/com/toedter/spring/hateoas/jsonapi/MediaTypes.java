@@ -60,4 +60,19 @@ public class MediaTypes {
    * {@link MediaType} API.
    */
   public static final MediaType JSON_API = MediaType.valueOf(JSON_API_VALUE);
+
+  /**
+   * String representation of the JSON:API media type with the Atomic Operations extension:
+   * {@value}.
+   *
+   * @see <a href="https://jsonapi.org/ext/atomic/">JSON:API Atomic Operations</a>
+   */
+  public static final String JSON_API_ATOMIC_VALUE =
+      "application/vnd.api+json;ext=\"https://jsonapi.org/ext/atomic\"";
+
+  /**
+   * {@link MediaType} constant for JSON:API with the Atomic Operations extension: {@code
+   * application/vnd.api+json;ext="https://jsonapi.org/ext/atomic"}.
+   */
+  public static final MediaType JSON_API_ATOMIC = MediaType.valueOf(JSON_API_ATOMIC_VALUE);
 }
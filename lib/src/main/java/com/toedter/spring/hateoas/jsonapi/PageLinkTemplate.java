@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriUtils;
+import tools.jackson.core.JsonGenerator;
+
+/**
+ * A precompiled template for the pagination links {@literal first}, {@literal prev}, {@literal
+ * next} and {@literal last} of a collection resource. The link base is parsed once when the
+ * template is created, rendering a link only appends the page number and page size.
+ *
+ * <p>Creating a template parses the link base, so controllers should keep the template of an
+ * endpoint in a constant and share it between requests:
+ *
+ * <pre>{@code
+ * private static final PageLinkTemplate PAGE_LINKS =
+ *     PageLinkTemplate.of("http://localhost:8080/api/movies");
+ *
+ * jsonApiModel().model(pagedModel).pageMeta().pageLinks(PAGE_LINKS).build();
+ * }</pre>
+ *
+ * @author Kai Toedter
+ */
+public final class PageLinkTemplate {
+
+  static final String DEFAULT_PAGE_NUMBER_REQUEST_PARAM = "page[number]";
+  static final String DEFAULT_PAGE_SIZE_REQUEST_PARAM = "page[size]";
+
+  // a long has at most 20 characters, including the sign
+  private static final int MAX_NUMBER_LENGTH = 20;
+
+  private final String pageNumberPrefix;
+  private final String pageSizeInfix;
+  private final String encodedPageNumberPrefix;
+  private final String encodedPageSizeInfix;
+
+  private PageLinkTemplate(
+      String linkBase, String pageNumberRequestParam, String pageSizeRequestParam) {
+    String paramStart = "?";
+    try {
+      String query = URI.create(linkBase).toURL().getQuery();
+      if (query != null) {
+        paramStart = "&";
+      }
+    } catch (MalformedURLException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("linkBase parameter must be a valid URL.");
+    }
+
+    this.pageNumberPrefix = linkBase + paramStart + pageNumberRequestParam + "=";
+    this.pageSizeInfix = "&" + pageSizeRequestParam + "=";
+
+    // encoding a query is done character by character,
+    // so the encoded parts can be concatenated like the plain ones
+    this.encodedPageNumberPrefix = encode(pageNumberPrefix);
+    this.encodedPageSizeInfix = encode(pageSizeInfix);
+  }
+
+  /**
+   * Creates a template for the given link base with {@literal JSON:API} default request
+   * parameters for page number {@literal page[number]} and page size {@literal page[size]}.
+   *
+   * @param linkBase the prefix of all pagination links, e.g. the base URL of the collection
+   *     resource
+   * @return will never be {@literal null}.
+   */
+  public static PageLinkTemplate of(String linkBase) {
+    return of(linkBase, DEFAULT_PAGE_NUMBER_REQUEST_PARAM, DEFAULT_PAGE_SIZE_REQUEST_PARAM);
+  }
+
+  /**
+   * Creates a template for the given link base and request parameters.
+   *
+   * @param linkBase the prefix of all pagination links, e.g. the base URL of the collection
+   *     resource
+   * @param pageNumberRequestParam the request parameter for page number
+   * @param pageSizeRequestParam the request parameter for page size
+   * @return will never be {@literal null}.
+   * @throws IllegalArgumentException if the link base is not a valid URL
+   */
+  public static PageLinkTemplate of(
+      String linkBase, String pageNumberRequestParam, String pageSizeRequestParam) {
+    Assert.notNull(linkBase, "link base for paging must not be null!");
+    Assert.notNull(pageNumberRequestParam, "page number request parameter must not be null!");
+    Assert.notNull(pageSizeRequestParam, "page size request parameter must not be null!");
+
+    return new PageLinkTemplate(linkBase, pageNumberRequestParam, pageSizeRequestParam);
+  }
+
+  /**
+   * Renders the href of a single page.
+   *
+   * @param pageNumber the page number
+   * @param pageSize the page size
+   * @return will never be {@literal null}.
+   */
+  public String href(long pageNumber, long pageSize) {
+    return render(pageNumberPrefix, pageSizeInfix, pageNumber, pageSize);
+  }
+
+  /**
+   * Creates the pagination links for the given page.
+   *
+   * @param metadata the page metadata, must not be {@literal null}.
+   * @return will never be {@literal null}.
+   */
+  public List<Link> links(PagedModel.PageMetadata metadata) {
+    Assert.notNull(metadata, "page metadata must not be null!");
+
+    final long pageNumber = metadata.getNumber();
+    final long pageSize = metadata.getSize();
+    final long totalPages = metadata.getTotalPages();
+
+    List<Link> paginationLinks = new ArrayList<>(4);
+    if (pageNumber > 0) {
+      paginationLinks.add(Link.of(href(0, pageSize), IanaLinkRelations.FIRST));
+      paginationLinks.add(Link.of(href(pageNumber - 1, pageSize), IanaLinkRelations.PREV));
+    }
+    if (pageNumber < totalPages - 1) {
+      paginationLinks.add(Link.of(href(pageNumber + 1, pageSize), IanaLinkRelations.NEXT));
+      paginationLinks.add(Link.of(href(totalPages - 1, pageSize), IanaLinkRelations.LAST));
+    }
+    return paginationLinks;
+  }
+
+  /** Returns whether the given page has pagination links, i.e. it is not the only page. */
+  static boolean hasLinks(PagedModel.PageMetadata metadata) {
+    return metadata.getNumber() > 0 || metadata.getNumber() < metadata.getTotalPages() - 1;
+  }
+
+  /**
+   * Writes the pagination links for the given page as fields of the current links object, without
+   * creating {@link Link} objects. The hrefs are URI-encoded unless their relation is not URL
+   * encoded by configuration.
+   */
+  void writeLinks(
+      JsonGenerator gen, PagedModel.PageMetadata metadata, Set<LinkRelation> linksNotUrlEncoded) {
+    final long pageNumber = metadata.getNumber();
+    final long pageSize = metadata.getSize();
+    final long totalPages = metadata.getTotalPages();
+
+    if (pageNumber > 0) {
+      writeLink(gen, IanaLinkRelations.FIRST, 0, pageSize, linksNotUrlEncoded);
+      writeLink(gen, IanaLinkRelations.PREV, pageNumber - 1, pageSize, linksNotUrlEncoded);
+    }
+    if (pageNumber < totalPages - 1) {
+      writeLink(gen, IanaLinkRelations.NEXT, pageNumber + 1, pageSize, linksNotUrlEncoded);
+      writeLink(gen, IanaLinkRelations.LAST, totalPages - 1, pageSize, linksNotUrlEncoded);
+    }
+  }
+
+  private void writeLink(
+      JsonGenerator gen,
+      LinkRelation rel,
+      long pageNumber,
+      long pageSize,
+      Set<LinkRelation> linksNotUrlEncoded) {
+    gen.writeName(JsonApiTokens.name(rel.value()));
+    gen.writeString(
+        linksNotUrlEncoded.contains(rel)
+            ? render(pageNumberPrefix, pageSizeInfix, pageNumber, pageSize)
+            : render(encodedPageNumberPrefix, encodedPageSizeInfix, pageNumber, pageSize));
+  }
+
+  private static String render(
+      String pageNumberPrefix, String pageSizeInfix, long pageNumber, long pageSize) {
+    return new StringBuilder(
+            pageNumberPrefix.length() + pageSizeInfix.length() + 2 * MAX_NUMBER_LENGTH)
+        .append(pageNumberPrefix)
+        .append(pageNumber)
+        .append(pageSizeInfix)
+        .append(pageSize)
+        .toString();
+  }
+
+  private static String encode(String value) {
+    return JsonApiHrefEncoder.needsEncoding(value)
+        ? UriUtils.encodeQuery(value, StandardCharsets.UTF_8)
+        : value;
+  }
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.hateoas.mediatype.hal.forms;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.hateoas.mediatype.MessageResolver;
@@ -36,17 +38,49 @@ enum DefaultOnlyMessageResolver implements MessageResolver {
 
 public class HalFormsTemplateBuilderWrapper {
 
+  // the default configuration and the builder are immutable, so they are shared by all calls
+  private static final HalFormsTemplatePropertyWriter HAL_FORMS_TEMPLATE_PROPERTY_WRITER =
+      new HalFormsTemplatePropertyWriter(
+          new HalFormsTemplateBuilder(
+              new HalFormsConfiguration(), DefaultOnlyMessageResolver.INSTANCE));
+
   @Nullable
   public static Object write(Object bean) {
-    HalFormsTemplateBuilder builder =
-        new HalFormsTemplateBuilder(
-            new HalFormsConfiguration(), DefaultOnlyMessageResolver.INSTANCE);
-    HalFormsTemplatePropertyWriter halFormsTemplatePropertyWriter =
-        new HalFormsTemplatePropertyWriter(builder);
     try {
-      return halFormsTemplatePropertyWriter.value(bean, null, null);
+      return HAL_FORMS_TEMPLATE_PROPERTY_WRITER.value(bean, null, null);
     } catch (Exception e) {
       throw new IllegalArgumentException("Cannot write HAL-FORMS template.", e);
     }
   }
+
+  /**
+   * Returns a copy of the templates created by {@link #write(Object)} with their targets replaced
+   * by the given mapping. Templates without a target are kept.
+   *
+   * @param templates the templates, as returned by {@link #write(Object)}
+   * @param targets the new target for each current target
+   * @return {@literal null} if the templates or a target are not known
+   */
+  @Nullable
+  public static Object withTargets(@Nullable Object templates, Map<String, String> targets) {
+    if (!(templates instanceof Map<?, ?> templateMap)) {
+      return null;
+    }
+    Map<Object, HalFormsTemplate> result = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> entry : templateMap.entrySet()) {
+      if (!(entry.getValue() instanceof HalFormsTemplate template)) {
+        return null;
+      }
+      String target = template.getTarget();
+      if (target != null) {
+        String newTarget = targets.get(target);
+        if (newTarget == null) {
+          return null;
+        }
+        template = template.withTarget(newTarget);
+      }
+      result.put(entry.getKey(), template);
+    }
+    return result;
+  }
 }
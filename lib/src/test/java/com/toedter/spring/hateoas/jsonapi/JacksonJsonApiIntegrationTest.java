@@ -32,6 +32,7 @@ import com.toedter.spring.hateoas.jsonapi.support.MovieThrowingException;
 import com.toedter.spring.hateoas.jsonapi.support.MovieWithAnnotations;
 import com.toedter.spring.hateoas.jsonapi.support.MovieWithAnnotationsDerived;
 import com.toedter.spring.hateoas.jsonapi.support.MovieWithCustomSerializer;
+import com.toedter.spring.hateoas.jsonapi.support.MovieWithDirectorIds;
 import com.toedter.spring.hateoas.jsonapi.support.MovieWithDirectors;
 import com.toedter.spring.hateoas.jsonapi.support.MovieWithDirectorsWithAdresses;
 import com.toedter.spring.hateoas.jsonapi.support.MovieWithGetters;
@@ -58,6 +59,7 @@ import com.toedter.spring.hateoas.jsonapi.support.polymorphism.SuperEntity;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Id;
 import java.io.File;
+import java.io.StringWriter;
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -90,11 +92,13 @@ import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.mediatype.Affordances;
 import org.springframework.http.HttpMethod;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -129,6 +133,11 @@ class JacksonJsonApiIntegrationTest extends JsonApiTestBase {
     private MovieTitle title;
   }
 
+  record MovieRecord(String id, String title) {}
+
+  record MovieRecordWithAnnotations(
+      @JsonApiId Long movieId, @JsonApiType String type, String title) {}
+
   @Test
   void should_serialize_empty_representation_model() throws Exception {
     RepresentationModel<?> representationModel = new RepresentationModel<>();
@@ -756,6 +765,41 @@ class JacksonJsonApiIntegrationTest extends JsonApiTestBase {
     assertThat(directors.get(1).getId()).isEqualTo("2");
   }
 
+  @Test
+  void should_deserialize_relationship_linkage_to_ids() throws Exception {
+    JavaType movieEntityModelType =
+        mapper
+            .getTypeFactory()
+            .constructParametricType(EntityModel.class, MovieWithDirectorIds.class);
+    File file = new ClassPathResource("postMovieWithTwoRelationships.json", getClass()).getFile();
+    EntityModel<MovieWithDirectorIds> movieEntityModel =
+        mapper.readValue(file, movieEntityModelType);
+
+    MovieWithDirectorIds movie = movieEntityModel.getContent();
+
+    assertThat(movie.getTitle()).isEqualTo("New Movie");
+    assertThat(movie.getDirectorIds()).containsExactly(1L, 2L);
+    assertThat(movie.getDirectorIdList()).containsExactly("1", "2");
+  }
+
+  @Test
+  void should_not_deserialize_non_numeric_relationship_linkage_to_long_ids() throws Exception {
+    JavaType movieEntityModelType =
+        mapper
+            .getTypeFactory()
+            .constructParametricType(EntityModel.class, MovieWithDirectorIds.class);
+    File file =
+        new ClassPathResource("postMovieWithNonNumericRelationshipId.json", getClass()).getFile();
+
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> mapper.readValue(file, movieEntityModelType));
+
+    assertThat(exception.getMessage())
+        .isEqualTo(JsonApiEntityModelDeserializer.CANNOT_DESERIALIZE_INPUT_TO_ENTITY_MODEL);
+    assertThat(exception.getCause()).hasMessageContaining("\"abc\" is not a valid Long");
+  }
+
   @Test
   void should_deserialize_single_movie_entity_model_with_field_annotation() throws Exception {
     JavaType movieEntityModelType =
@@ -1106,6 +1150,16 @@ class JacksonJsonApiIntegrationTest extends JsonApiTestBase {
     compareWithFile(movieJson, "movieEntityModelWithComplexLinkAndOldMeta.json");
   }
 
+  @Test
+  void should_serialize_movie_with_titled_link_without_empty_meta() throws Exception {
+    Movie movie = new Movie("1", "Star Wars");
+    EntityModel<Movie> entityModel = EntityModel.of(movie);
+    entityModel.add(Link.of("https://complex-links.org").withTitle("title"));
+
+    String movieJson = mapper.writeValueAsString(entityModel);
+    compareWithFile(movieJson, "movieEntityModelWithTitledLink.json");
+  }
+
   @Test
   void should_serialize_movie_with_complex_link() throws Exception {
     Movie movie = new Movie("1", "Star Wars");
@@ -1435,6 +1489,27 @@ class JacksonJsonApiIntegrationTest extends JsonApiTestBase {
     assertThat(Objects.requireNonNull(entityModel.getContent()).getId()).isEqualTo(1);
   }
 
+  @Test
+  void should_deserialize_movie_record() throws Exception {
+    JavaType javaType =
+        mapper.getTypeFactory().constructParametricType(EntityModel.class, MovieRecord.class);
+    File file = new ClassPathResource("movieEntityModel.json", getClass()).getFile();
+    EntityModel<MovieRecord> entityModel = mapper.readValue(file, javaType);
+    assertThat(entityModel.getContent()).isEqualTo(new MovieRecord("1", "Star Wars"));
+  }
+
+  @Test
+  void should_deserialize_movie_record_with_annotated_id_and_type() throws Exception {
+    JavaType javaType =
+        mapper
+            .getTypeFactory()
+            .constructParametricType(EntityModel.class, MovieRecordWithAnnotations.class);
+    File file = new ClassPathResource("movieEntityModel.json", getClass()).getFile();
+    EntityModel<MovieRecordWithAnnotations> entityModel = mapper.readValue(file, javaType);
+    assertThat(entityModel.getContent())
+        .isEqualTo(new MovieRecordWithAnnotations(1L, "movies", "Star Wars"));
+  }
+
   @Test
   void should_serialize_type_attribute_when_type_for_class_is_used() throws Exception {
     @Getter
@@ -1650,6 +1725,122 @@ class JacksonJsonApiIntegrationTest extends JsonApiTestBase {
     compareWithFile(moviesJson, "moviesCollectionModelWithHalFormsAffordances.json");
   }
 
+  @Test
+  void should_serialize_cached_affordances_for_equal_links() throws Exception {
+    JsonApiConfiguration configuration =
+        new JsonApiConfiguration()
+            .withAffordancesRenderedAsLinkMeta(JsonApiConfiguration.AffordanceType.HAL_FORMS);
+    mapper = createJsonMapper(configuration);
+    JsonApiLinksSerializer linksSerializer = createLinksSerializer(configuration);
+    String expectedJson =
+        writeLinks(createLinksSerializer(configuration), createAffordanceLinks("create-movie"));
+
+    for (int i = 0; i < 2; i++) {
+      String linksJson = writeLinks(linksSerializer, createAffordanceLinks("create-movie"));
+      assertThat(linksJson).isEqualTo(expectedJson);
+    }
+    assertThat(linksSerializer.getRenderedAffordancesCacheSize()).isEqualTo(1);
+  }
+
+  @Test
+  void should_serialize_cached_hal_forms_affordances_with_target_of_each_link() throws Exception {
+    JsonApiConfiguration configuration =
+        new JsonApiConfiguration()
+            .withAffordancesRenderedAsLinkMeta(JsonApiConfiguration.AffordanceType.HAL_FORMS);
+    mapper = createJsonMapper(configuration);
+    JsonApiLinksSerializer linksSerializer = createLinksSerializer(configuration);
+
+    for (int i = 1; i <= 3; i++) {
+      Links links = createItemAffordanceLinks(i);
+      String linksJson = writeLinks(linksSerializer, links);
+      assertThat(linksJson)
+          .isEqualTo(writeLinks(createLinksSerializer(configuration), links))
+          .contains("\"target\":\"https://mymovies.com/movies/" + i + "\"");
+    }
+    assertThat(linksSerializer.getRenderedAffordancesCacheSize()).isEqualTo(1);
+  }
+
+  @Test
+  void should_serialize_cached_spring_hateoas_affordances_with_link_of_each_item()
+      throws Exception {
+    JsonApiConfiguration configuration =
+        new JsonApiConfiguration()
+            .withAffordancesRenderedAsLinkMeta(
+                JsonApiConfiguration.AffordanceType.SPRING_HATEOAS);
+    mapper = createJsonMapper(configuration);
+    JsonApiLinksSerializer linksSerializer = createLinksSerializer(configuration);
+
+    for (int i = 1; i <= 3; i++) {
+      Links links = createItemAffordanceLinks(i);
+      String linksJson = writeLinks(linksSerializer, links);
+      assertThat(linksJson)
+          .isEqualTo(writeLinks(createLinksSerializer(configuration), links))
+          .doesNotContain("https://mymovies.com/movies/" + (i - 1) + "\"");
+    }
+    assertThat(linksSerializer.getRenderedAffordancesCacheSize()).isEqualTo(1);
+  }
+
+  private static Links createAffordanceLinks(String name) {
+    return Links.of(
+        Affordances.of(Link.of("https://mymovies.com"))
+            .afford(HttpMethod.POST)
+            .withInputAndOutput(Movie.class)
+            .withName(name)
+            .toLink());
+  }
+
+  private static Links createItemAffordanceLinks(int id) {
+    return Links.of(
+        Affordances.of(Link.of("https://mymovies.com/movies/" + id, IanaLinkRelations.RELATED))
+            .afford(HttpMethod.PATCH)
+            .withInputAndOutput(Movie.class)
+            .withName("update-movie")
+            .toLink());
+  }
+
+  private static JsonApiLinksSerializer createLinksSerializer(JsonApiConfiguration configuration) {
+    JsonApiLinksSerializer linksSerializer = new JsonApiLinksSerializer();
+    linksSerializer.setJsonApiConfiguration(configuration);
+    return linksSerializer;
+  }
+
+  private String writeLinks(JsonApiLinksSerializer linksSerializer, Links links) {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator gen = mapper.createGenerator(writer)) {
+      gen.writeStartObject();
+      linksSerializer.writeLinks(links, gen);
+      gen.writeEndObject();
+    }
+    return writer.toString();
+  }
+
+  @Test
+  void should_not_share_cached_hal_forms_affordances_between_self_and_other_links()
+      throws Exception {
+    JsonApiConfiguration configuration =
+        new JsonApiConfiguration()
+            .withAffordancesRenderedAsLinkMeta(JsonApiConfiguration.AffordanceType.HAL_FORMS);
+    RepresentationModel<?> selfModel = createHalFormsAffordanceModel(IanaLinkRelations.SELF);
+    RepresentationModel<?> relatedModel = createHalFormsAffordanceModel(IanaLinkRelations.RELATED);
+    String expectedSelfJson = createJsonMapper(configuration).writeValueAsString(selfModel);
+    String expectedRelatedJson = createJsonMapper(configuration).writeValueAsString(relatedModel);
+
+    mapper = createJsonMapper(configuration);
+
+    assertThat(mapper.writeValueAsString(selfModel)).isEqualTo(expectedSelfJson);
+    assertThat(mapper.writeValueAsString(relatedModel)).isEqualTo(expectedRelatedJson);
+  }
+
+  private RepresentationModel<?> createHalFormsAffordanceModel(LinkRelation linkRelation) {
+    Link link =
+        Affordances.of(Link.of("https://mymovies.com", linkRelation))
+            .afford(HttpMethod.POST)
+            .withInputAndOutput(Movie.class)
+            .withName("create-movie")
+            .toLink();
+    return CollectionModel.of(Collections.singletonList(new Movie("1", "New Movie")), link);
+  }
+
   @Test
   void should_deserialize_collection_model_of_entity_models_with_relationships_and_included()
       throws Exception {
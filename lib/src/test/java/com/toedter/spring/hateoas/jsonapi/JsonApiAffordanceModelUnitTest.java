@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import com.toedter.spring.hateoas.jsonapi.support.WebMvcMovieController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.AffordanceModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.Affordances;
+import org.springframework.http.HttpMethod;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiAffordanceModel Unit Test")
+class JsonApiAffordanceModelUnitTest {
+
+  @Test
+  void should_compute_input_properties_once() {
+    JsonApiAffordanceModel model = getAffordanceModel(HttpMethod.POST);
+
+    assertThat(model.getInputProperties())
+        .extracting(JsonApiAffordanceModel.PropertyData::getName)
+        .contains("title");
+    assertThat(model.getInputProperties()).isSameAs(model.getInputProperties());
+    assertThat(model.getQueryProperties()).isEmpty();
+  }
+
+  @Test
+  void should_share_input_properties_for_same_input_metadata() {
+    AffordanceModel.InputPayloadMetadata input = getAffordanceModel(HttpMethod.POST).getInput();
+
+    assertThat(JsonApiAffordanceModel.getInputProperties(input))
+        .isSameAs(JsonApiAffordanceModel.getInputProperties(input));
+  }
+
+  @Test
+  void should_not_compute_input_properties_for_get() {
+    JsonApiAffordanceModel model = getAffordanceModel(HttpMethod.GET);
+
+    assertThat(model.getInputProperties()).isEmpty();
+  }
+
+  @Test
+  void should_precompute_request_body_methods_only() throws Exception {
+    assertThat(
+            JsonApiAffordancePrecomputer.precompute(
+                WebMvcMovieController.class.getMethod("newMovie", EntityModel.class)))
+        .isTrue();
+    assertThat(
+            JsonApiAffordancePrecomputer.precompute(
+                WebMvcMovieController.class.getMethod("findOne", Integer.class)))
+        .isFalse();
+  }
+
+  private JsonApiAffordanceModel getAffordanceModel(HttpMethod httpMethod) {
+    Link link =
+        Affordances.of(Link.of("https://mymovies.com"))
+            .afford(httpMethod)
+            .withInputAndOutput(Movie.class)
+            .withName("movie")
+            .toLink();
+
+    return (JsonApiAffordanceModel)
+        link.getAffordances().get(0).getAffordanceModel(MediaTypes.JSON_API);
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.toedter.spring.hateoas.jsonapi.support.Director;
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import com.toedter.spring.hateoas.jsonapi.support.MovieWithDirectors;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JSON:API Atomic Operations Integration Test")
+class JsonApiAtomicOperationsIntegrationTest extends JsonApiTestBase {
+
+  private JsonMapper mapper;
+
+  @BeforeEach
+  void setUpBeforeEach() {
+    mapper = createJsonMapper(new JsonApiConfiguration());
+  }
+
+  @Test
+  void should_deserialize_atomic_operations() throws Exception {
+    JsonApiAtomicOperations operations = readOperations("atomicOperations.json");
+
+    assertThat(operations.getOperations()).hasSize(3);
+
+    JsonApiAtomicOperation addDirector = operations.getOperations().get(0);
+    assertThat(addDirector.getOp()).isEqualTo(JsonApiAtomicOperation.Op.ADD);
+    assertThat(addDirector.getType()).isEqualTo("directors");
+    assertThat(addDirector.getLid()).isEqualTo("director-1");
+    assertThat(addDirector.getId()).isNull();
+
+    JsonApiAtomicOperation remove = operations.getOperations().get(2);
+    assertThat(remove.getOp()).isEqualTo(JsonApiAtomicOperation.Op.REMOVE);
+    assertThat(remove.getRef())
+        .isEqualTo(new JsonApiAtomicOperation.Ref("movies", "3", null, null));
+    assertThat(remove.getId()).isEqualTo("3");
+    assertThat(remove.getMeta()).containsEntry("reason", "duplicate");
+  }
+
+  @Test
+  void should_resolve_local_ids_when_executing_batch() throws Exception {
+    JsonApiAtomicOperations operations = readOperations("atomicOperations.json");
+    List<Director> savedDirectors = new ArrayList<>();
+    List<MovieWithDirectors> savedMovies = new ArrayList<>();
+
+    JsonApiAtomicResults results =
+        operations.execute(
+            batch -> {
+              List<JsonApiAtomicOperation> ops = batch.getOperations();
+
+              Director director = ops.get(0).toEntityModel(Director.class).getContent();
+              director.setId("1");
+              batch.getLocalIds().register("directors", ops.get(0).getLid(), director.getId());
+              savedDirectors.add(director);
+
+              MovieWithDirectors movie =
+                  ops.get(1).toEntityModel(MovieWithDirectors.class).getContent();
+              movie.setId("2");
+              savedMovies.add(movie);
+
+              return Arrays.asList(EntityModel.of(director), EntityModel.of(movie), null);
+            });
+
+    assertThat(results.getResults()).hasSize(3);
+    assertThat(savedDirectors.get(0).getName()).isEqualTo("George Lucas");
+    assertThat(savedMovies.get(0).getTitle()).isEqualTo("Star Wars");
+    assertThat(savedMovies.get(0).getDirectors()).hasSize(1);
+    assertThat(savedMovies.get(0).getDirectors().get(0).getId()).isEqualTo("1");
+  }
+
+  @Test
+  void should_fail_binding_unresolved_local_id() throws Exception {
+    JsonApiAtomicOperations operations = readOperations("atomicOperations.json");
+    JsonApiAtomicOperation addMovie = operations.getOperations().get(1);
+
+    assertThatThrownBy(() -> addMovie.toEntityModel(MovieWithDirectors.class))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void should_fail_if_handler_returns_wrong_number_of_results() throws Exception {
+    JsonApiAtomicOperations operations = readOperations("atomicOperations.json");
+
+    assertThatThrownBy(() -> operations.execute(batch -> List.of()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void should_not_deserialize_undeclared_local_id() {
+    assertThatThrownBy(() -> readOperations("atomicOperationsWithUndeclaredLid.json"))
+        .satisfies(
+            e ->
+                assertThat(NestedExceptionUtils.getMostSpecificCause(e))
+                    .isInstanceOf(MismatchedInputException.class));
+  }
+
+  @Test
+  void should_not_deserialize_operation_without_op() {
+    assertThatThrownBy(
+            () ->
+                mapper.readValue(
+                    "{\"atomic:operations\":[{\"ref\":{\"type\":\"movies\",\"id\":\"1\"}}]}",
+                    JsonApiAtomicOperations.class))
+        .isInstanceOf(MismatchedInputException.class);
+  }
+
+  @Test
+  void should_not_deserialize_operations_that_are_not_an_array() {
+    assertThatThrownBy(
+            () ->
+                mapper.readValue(
+                    "{\"atomic:operations\":{\"op\":\"add\"}}", JsonApiAtomicOperations.class))
+        .isInstanceOf(MismatchedInputException.class);
+  }
+
+  @Test
+  void should_not_deserialize_ref_that_is_not_an_object() {
+    assertThatThrownBy(
+            () ->
+                mapper.readValue(
+                    "{\"atomic:operations\":[{\"op\":\"remove\",\"ref\":\"movies\"}]}",
+                    JsonApiAtomicOperations.class))
+        .isInstanceOf(MismatchedInputException.class);
+  }
+
+  @Test
+  void should_serialize_atomic_results() throws Exception {
+    List<RepresentationModel<?>> results = new ArrayList<>();
+    results.add(EntityModel.of(new Movie("2", "Star Wars")));
+    results.add(null);
+
+    String json = mapper.writeValueAsString(new JsonApiAtomicResults(results));
+
+    compareWithFile(json, "atomicResults.json", false);
+  }
+
+  @Test
+  void should_read_and_write_with_atomic_message_converter() throws Exception {
+    JsonApiAtomicHttpMessageConverter converter = new JsonApiAtomicHttpMessageConverter(mapper);
+    ResolvableType operationsType = ResolvableType.forClass(JsonApiAtomicOperations.class);
+
+    assertThat(converter.canRead(operationsType, MediaTypes.JSON_API_ATOMIC)).isTrue();
+    assertThat(converter.canRead(ResolvableType.forClass(Movie.class), MediaTypes.JSON_API_ATOMIC))
+        .isFalse();
+
+    MockHttpInputMessage inputMessage =
+        new MockHttpInputMessage(
+            new ClassPathResource("atomicOperations.json", getClass()).getInputStream());
+    inputMessage.getHeaders().setContentType(MediaTypes.JSON_API_ATOMIC);
+    JsonApiAtomicOperations operations =
+        (JsonApiAtomicOperations) converter.read(operationsType, inputMessage, null);
+    assertThat(operations.getOperations()).hasSize(3);
+
+    List<RepresentationModel<?>> results = new ArrayList<>();
+    results.add(EntityModel.of(new Movie("2", "Star Wars")));
+    results.add(null);
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+    converter.write(
+        new JsonApiAtomicResults(results),
+        ResolvableType.forClass(JsonApiAtomicResults.class),
+        MediaTypes.JSON_API_ATOMIC,
+        outputMessage,
+        null);
+
+    assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaTypes.JSON_API_ATOMIC);
+    compareWithFile(outputMessage.getBodyAsString(), "atomicResults.json", false);
+  }
+
+  @Test
+  void should_not_read_malformed_atomic_operations_with_message_converter() {
+    JsonApiAtomicHttpMessageConverter converter = new JsonApiAtomicHttpMessageConverter(mapper);
+    MockHttpInputMessage inputMessage =
+        new MockHttpInputMessage("{\"atomic:operations\":{}}".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(
+            () ->
+                converter.read(
+                    ResolvableType.forClass(JsonApiAtomicOperations.class), inputMessage, null))
+        .isInstanceOf(HttpMessageNotReadableException.class);
+  }
+
+  private JsonApiAtomicOperations readOperations(String fileName) throws Exception {
+    File file = new ClassPathResource(fileName, getClass()).getFile();
+    return mapper.readValue(file, JsonApiAtomicOperations.class);
+  }
+}
@@ -42,6 +42,8 @@ class JsonApiConfigurationUnitTest {
     assertThat(new JsonApiConfiguration().getAffordancesRenderedAsLinkMeta())
         .isEqualTo(JsonApiConfiguration.AffordanceType.NONE);
     assertThat(new JsonApiConfiguration().getLinksNotUrlEncoded()).isEmpty();
+    assertThat(new JsonApiConfiguration().isHandlerInstancesCached()).isTrue();
+    assertThat(new JsonApiConfiguration().isSerializersWarmedUpAtStartup()).isFalse();
   }
 
   @Test
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiDocumentDataDeserializer Unit Test")
+class JsonApiDocumentDataDeserializerUnitTest {
+
+  private final JsonMapper mapper =
+      JsonApiMediaTypeConfiguration.configureJsonMapper(
+              JsonMapper.builder(), new JsonApiConfiguration(), null)
+          .build();
+
+  @Test
+  void should_read_to_many_linkage_without_identifier_maps() throws Exception {
+    File file = new ClassPathResource("postMovieWithTwoRelationships.json", getClass()).getFile();
+
+    JsonApiDocument document = mapper.readValue(file, JsonApiDocument.class);
+
+    Map<?, ?> data = (Map<?, ?>) document.getData();
+    Map<?, ?> relationships = (Map<?, ?>) data.get("relationships");
+    Object linkage = ((Map<?, ?>) relationships.get("directors")).get("data");
+    assertThat(linkage).isInstanceOf(JsonApiLinkage.class);
+    assertThat(((JsonApiLinkage) linkage).getId(1)).isEqualTo("2");
+    assertThat(((JsonApiLinkage) linkage).get(0))
+        .containsExactlyInAnyOrderEntriesOf(Map.of("id", "1", "type", "directors"));
+  }
+
+  @Test
+  void should_keep_additional_members_of_resource_identifiers() {
+    JsonApiLinkage linkage = new JsonApiLinkage();
+    for (int i = 0; i < 10; i++) {
+      linkage.add(String.valueOf(i), "directors", i == 9 ? Map.of("meta", "m") : null);
+    }
+
+    assertThat(linkage).hasSize(10);
+    assertThat(linkage.get(9)).containsEntry("meta", "m").containsEntry("id", "9");
+    assertThat(linkage.get(0)).doesNotContainKey("meta");
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.toedter.spring.hateoas.jsonapi.support.Director;
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import com.toedter.spring.hateoas.jsonapi.support.MovieWithPlaytime;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.PagedModel;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.ToStringSerializer;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiDocumentWriter Unit Test")
+class JsonApiDocumentWriterUnitTest extends JsonApiTestBase {
+
+  @Test
+  void should_write_compound_document_to_channel() throws Exception {
+    JsonApiDocumentWriter writer =
+        new JsonApiDocumentWriter(new JsonApiConfiguration())
+            .withLinks(Links.of(Link.of("http://localhost/movies")))
+            .withBufferSize(16);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    writer.write(
+        Stream.of(new Movie("1", "Star Wars"), new Movie("2", "Avengers")),
+        List.of(
+            () ->
+                Stream.of(
+                    new Director("1", "George Lucas"),
+                    new Director("2", "Joss Whedon"),
+                    new Director("1", "George Lucas"))),
+        Channels.newChannel(outputStream));
+
+    compareWithFile(
+        outputStream.toString(StandardCharsets.UTF_8), "documentWriterCompoundDocument.json");
+  }
+
+  @Test
+  void should_write_page_links_directly() throws Exception {
+    JsonApiDocumentWriter writer =
+        new JsonApiDocumentWriter(new JsonApiConfiguration())
+            .withLinks(
+                Links.of(
+                    Link.of("http://localhost/movies"),
+                    Link.of("http://localhost/other", IanaLinkRelations.NEXT)))
+            .withPageLinks(
+                PageLinkTemplate.of("http://localhost/movies"),
+                new PagedModel.PageMetadata(10, 1, 100, 10));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    writer.write(Stream.empty(), Channels.newChannel(outputStream));
+
+    assertThat(outputStream.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"data\":[],\"links\":{"
+                + "\"self\":\"http://localhost/movies\","
+                + "\"first\":\"http://localhost/movies?page%5Bnumber%5D=0&page%5Bsize%5D=10\","
+                + "\"prev\":\"http://localhost/movies?page%5Bnumber%5D=0&page%5Bsize%5D=10\","
+                + "\"next\":\"http://localhost/movies?page%5Bnumber%5D=2&page%5Bsize%5D=10\","
+                + "\"last\":\"http://localhost/movies?page%5Bnumber%5D=9&page%5Bsize%5D=10\"}}");
+  }
+
+  @Test
+  void should_not_write_empty_links_for_single_page() throws Exception {
+    JsonApiDocumentWriter writer =
+        new JsonApiDocumentWriter(new JsonApiConfiguration())
+            .withPageLinks(
+                PageLinkTemplate.of("http://localhost/movies"),
+                new PagedModel.PageMetadata(10, 0, 5, 1));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    writer.write(Stream.empty(), Channels.newChannel(outputStream));
+
+    assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("{\"data\":[]}");
+  }
+
+  @Test
+  void should_write_with_customized_json_api_mapper(@TempDir Path tempDir) throws Exception {
+    JsonApiConfiguration jsonApiConfiguration = new JsonApiConfiguration();
+    JsonMapper jsonMapper =
+        createJsonMapper(jsonApiConfiguration)
+            .rebuild()
+            .addModule(new SimpleModule().addSerializer(Double.class, ToStringSerializer.instance))
+            .build();
+    Path path = tempDir.resolve("movies.json");
+
+    new JsonApiDocumentWriter(jsonApiConfiguration, jsonMapper)
+        .write(Stream.of(new MovieWithPlaytime("1", "Star Wars", 2.5)), List.of(), path);
+
+    assertThat(Files.readString(path)).contains("\"playtime\":\"2.5\"");
+  }
+
+  @Test
+  void should_not_create_writer_without_configuration() {
+    assertThatThrownBy(() -> new JsonApiDocumentWriter(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("jsonApiConfiguration must not be null!");
+  }
+
+  @Test
+  void should_write_empty_document() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    new JsonApiDocumentWriter(new JsonApiConfiguration())
+        .write(Stream.empty(), Channels.newChannel(outputStream));
+
+    assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("{\"data\":[]}");
+  }
+
+  @Test
+  void should_write_document_to_file(@TempDir Path tempDir) throws Exception {
+    Path path = tempDir.resolve("movies.json");
+
+    new JsonApiDocumentWriter(new JsonApiConfiguration())
+        .write(
+            Stream.of(new Movie("1", "Star Wars"), new Movie("2", "Avengers")), List.of(), path);
+
+    compareWithFile(Files.readString(path), "moviesCollectionModelWithoutLinks.json");
+  }
+}
@@ -25,10 +25,13 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.KeyDeserializer;
+import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
 import tools.jackson.databind.jsontype.TypeIdResolver;
 import tools.jackson.databind.jsontype.TypeResolverBuilder;
 import tools.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
@@ -78,6 +81,26 @@ class JsonApiHandlerInitiatorUnitTest {
     }
   }
 
+  static class TestSerializer extends ValueSerializer<String> {
+
+    static int instances;
+
+    public TestSerializer() {
+      instances++;
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializationContext ctxt) {
+      gen.writeString(value);
+    }
+  }
+
+  static class ModelWithTestSerializer {
+
+    @JsonSerialize(using = TestSerializer.class)
+    String name;
+  }
+
   @BeforeEach
   void beforeEach() {
     jsonApiHandlerInstantiator = new JsonApiHandlerInstantiator(new JsonApiConfiguration(), null);
@@ -130,4 +153,67 @@ class JsonApiHandlerInitiatorUnitTest {
             null, null, TestTypeResolverBuilder.class);
     assertThat(typeResolverBuilder).isInstanceOf(TestTypeResolverBuilder.class);
   }
+
+  @Test
+  void should_cache_created_instances() {
+    KeyDeserializer keyDeserializer =
+        jsonApiHandlerInstantiator.keyDeserializerInstance(null, null, TestKeyDeserializer.class);
+
+    assertThat(
+            jsonApiHandlerInstantiator.keyDeserializerInstance(
+                null, null, TestKeyDeserializer.class))
+        .isSameAs(keyDeserializer);
+  }
+
+  @Test
+  void should_cache_created_instances_with_bean_factory() {
+    jsonApiHandlerInstantiator =
+        new JsonApiHandlerInstantiator(
+            new JsonApiConfiguration(), new DefaultListableBeanFactory());
+    KeyDeserializer keyDeserializer =
+        jsonApiHandlerInstantiator.keyDeserializerInstance(null, null, TestKeyDeserializer.class);
+
+    assertThat(
+            jsonApiHandlerInstantiator.keyDeserializerInstance(
+                null, null, TestKeyDeserializer.class))
+        .isSameAs(keyDeserializer);
+  }
+
+  @Test
+  void should_create_new_instances_if_not_cached() {
+    jsonApiHandlerInstantiator =
+        new JsonApiHandlerInstantiator(
+            new JsonApiConfiguration().withHandlerInstancesCached(false), null);
+    KeyDeserializer keyDeserializer =
+        jsonApiHandlerInstantiator.keyDeserializerInstance(null, null, TestKeyDeserializer.class);
+
+    assertThat(
+            jsonApiHandlerInstantiator.keyDeserializerInstance(
+                null, null, TestKeyDeserializer.class))
+        .isNotSameAs(keyDeserializer);
+  }
+
+  @Test
+  void should_not_share_type_id_resolvers() {
+    TypeIdResolver typeIdResolver =
+        jsonApiHandlerInstantiator.typeIdResolverInstance(null, null, TestTypeIdResolver.class);
+
+    assertThat(
+            jsonApiHandlerInstantiator.typeIdResolverInstance(null, null, TestTypeIdResolver.class))
+        .isNotSameAs(typeIdResolver);
+  }
+
+  @Test
+  void should_pre_instantiate_serializers_of_classes_with_type_mapping() {
+    TestSerializer.instances = 0;
+    jsonApiHandlerInstantiator =
+        new JsonApiHandlerInstantiator(
+            new JsonApiConfiguration().withTypeForClass(ModelWithTestSerializer.class, "models"),
+            null);
+
+    assertThat(TestSerializer.instances).isEqualTo(1);
+    assertThat(jsonApiHandlerInstantiator.serializerInstance(null, null, TestSerializer.class))
+        .isInstanceOf(TestSerializer.class);
+    assertThat(TestSerializer.instances).isEqualTo(1);
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriUtils;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiHrefEncoder Unit Test")
+class JsonApiHrefEncoderUnitTest {
+
+  private final JsonApiHrefEncoder hrefEncoder = new JsonApiHrefEncoder(2);
+
+  @Test
+  void should_not_encode_href_without_special_characters() {
+    String plainHref = "http://localhost:8080/movies?sort=-title&filter=a,b;c";
+
+    assertThat(JsonApiHrefEncoder.needsEncoding(plainHref)).isFalse();
+    assertThat(hrefEncoder.encode(plainHref)).isSameAs(plainHref);
+    assertThat(hrefEncoder.getMisses()).isZero();
+  }
+
+  @Test
+  void should_need_encoding_for_href_with_brackets() {
+    String href = "http://localhost:8080/movies?page[number]=1&sort=-title";
+
+    assertThat(JsonApiHrefEncoder.needsEncoding(href)).isTrue();
+  }
+
+  @Test
+  void should_encode_like_uri_utils() {
+    String[] hrefs = {
+      "http://localhost/directors?{page,size}",
+      "http://localhost/movies?filter=title eq 'Star Wars'",
+      "http://localhost/movies?title=Amélie",
+      "http://localhost/movies?x=%26#top"
+    };
+
+    for (String href : hrefs) {
+      assertThat(hrefEncoder.encode(href))
+          .isEqualTo(UriUtils.encodeQuery(href, StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void should_count_hits_and_misses() {
+    String href = "http://localhost/movies?page[number]=1";
+
+    hrefEncoder.encode(href);
+    hrefEncoder.encode(href);
+    hrefEncoder.encode(href);
+
+    assertThat(hrefEncoder.getMisses()).isEqualTo(1);
+    assertThat(hrefEncoder.getHits()).isEqualTo(2);
+  }
+
+  @Test
+  void should_limit_cache_size() {
+    for (int i = 0; i < 10; i++) {
+      hrefEncoder.encode("http://localhost/movies?page[number]=" + i);
+    }
+
+    assertThat(hrefEncoder.size()).isLessThanOrEqualTo(2);
+  }
+}
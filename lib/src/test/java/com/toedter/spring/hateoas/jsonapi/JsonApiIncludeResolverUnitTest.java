@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static com.toedter.spring.hateoas.jsonapi.JsonApiIncludeResolver.includeResolver;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.toedter.spring.hateoas.jsonapi.support.Director;
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiIncludeResolver Unit Test")
+class JsonApiIncludeResolverUnitTest {
+
+  private final Map<String, Movie> movies =
+      Map.of(
+          "1", new Movie("1", "Star Wars"),
+          "2", new Movie("2", "Avengers"),
+          "3", new Movie("3", "American Graffiti"));
+  private final Map<String, Director> directors =
+      Map.of("1", new Director("1", "George Lucas"), "2", new Director("2", "Joss Whedon"));
+  private final Map<String, List<String>> directorsOfMovie =
+      Map.of("1", List.of("1"), "2", List.of("2"), "3", List.of("1"));
+  private final Map<String, List<String>> moviesOfDirector =
+      Map.of("1", List.of("1", "3"), "2", List.of("2"));
+
+  private final Map<String, List<String>> sequelsOfMovie = Map.of("1", List.of("2"));
+
+  private final List<Set<String>> movieBatches = new ArrayList<>();
+  private final List<Set<String>> directorBatches = new ArrayList<>();
+  private JsonApiIncludeResolver includeResolver;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUpBeforeEach() {
+    includeResolver =
+        includeResolver()
+            .resource(Movie.class, Movie::getId, ids -> load(ids, movies, movieBatches))
+            .resource(Director.class, Director::getId, ids -> load(ids, directors, directorBatches))
+            .relationship(
+                Movie.class,
+                "directors",
+                Director.class,
+                movie -> directorsOfMovie.get(movie.getId()))
+            .relationship(
+                Director.class,
+                "movies",
+                Movie.class,
+                director -> moviesOfDirector.get(director.getId()));
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDownAfterEach() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void should_resolve_single_level_with_one_batch() {
+    List<Object> included =
+        includeResolver.resolve(List.of(movies.get("1"), movies.get("2")), "directors");
+
+    assertThat(included).containsExactly(directors.get("1"), directors.get("2"));
+    assertThat(directorBatches).containsExactly(Set.of("1", "2"));
+  }
+
+  @Test
+  void should_resolve_multi_level_paths_without_reloading_primary_data() {
+    List<Object> included =
+        includeResolver.resolve(List.of(EntityModel.of(movies.get("1"))), "directors.movies");
+
+    assertThat(included).containsExactly(directors.get("1"), movies.get("3"));
+    assertThat(directorBatches).containsExactly(Set.of("1"));
+    assertThat(movieBatches).containsExactly(Set.of("3"));
+  }
+
+  @Test
+  void should_stop_at_cycles() {
+    List<Object> included =
+        includeResolver.resolve(
+            List.of(movies.get("1")), "directors.movies.directors", "directors");
+
+    assertThat(included).containsExactly(directors.get("1"), movies.get("3"));
+    assertThat(directorBatches).hasSize(1);
+    assertThat(movieBatches).hasSize(1);
+  }
+
+  @Test
+  void should_resolve_nothing_without_include() {
+    assertThat(includeResolver.resolve(List.of(movies.get("1")))).isEmpty();
+    assertThat(includeResolver.resolve(List.of(movies.get("1")), (String[]) null)).isEmpty();
+    assertThat(directorBatches).isEmpty();
+  }
+
+  @Test
+  void should_not_resolve_unknown_include_path() {
+    List<Movie> primaryData = List.of(movies.get("1"));
+
+    assertThatThrownBy(() -> includeResolver.resolve(primaryData, "directors.awards"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("directors.awards");
+  }
+
+  @Test
+  void should_add_resolved_resources_to_builder() {
+    List<Movie> primaryData = List.of(movies.get("1"), movies.get("2"));
+
+    JsonApiModel model =
+        (JsonApiModel)
+            JsonApiModelBuilder.jsonApiModel()
+                .model(CollectionModel.of(primaryData))
+                .included(includeResolver, primaryData, "directors")
+                .build();
+
+    assertThat(model.getIncludedEntities()).hasSize(2);
+  }
+
+  @Test
+  void should_load_sibling_branches_concurrently() {
+    CountDownLatch bothLoadersStarted = new CountDownLatch(2);
+    JsonApiIncludeResolver concurrentResolver =
+        includeResolver()
+            .resource(
+                Movie.class, Movie::getId, ids -> awaitAndLoad(bothLoadersStarted, ids, movies))
+            .resource(
+                Director.class,
+                Director::getId,
+                ids -> awaitAndLoad(bothLoadersStarted, ids, directors))
+            .relationship(
+                Movie.class,
+                "directors",
+                Director.class,
+                movie -> directorsOfMovie.get(movie.getId()))
+            .relationship(
+                Movie.class, "sequels", Movie.class, movie -> sequelsOfMovie.get(movie.getId()))
+            .concurrentLoading(executor, Duration.ofSeconds(5));
+
+    List<Object> included =
+        concurrentResolver.resolve(List.of(movies.get("1")), "sequels,directors");
+
+    // sequential loading would never get past the latch
+    assertThat(included).containsExactly(movies.get("2"), directors.get("1"));
+  }
+
+  @Test
+  void should_interrupt_loaders_after_timeout() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    JsonApiIncludeResolver slowResolver =
+        includeResolver()
+            .resource(
+                Director.class,
+                Director::getId,
+                ids -> {
+                  try {
+                    Thread.sleep(10_000);
+                  } catch (InterruptedException e) {
+                    interrupted.countDown();
+                  }
+                  return List.of();
+                })
+            .relationship(
+                Movie.class,
+                "directors",
+                Director.class,
+                movie -> directorsOfMovie.get(movie.getId()))
+            .concurrentLoading(executor, Duration.ofMillis(50));
+    List<Movie> primaryData = List.of(movies.get("1"));
+
+    assertThatThrownBy(() -> slowResolver.resolve(primaryData, "directors"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("timed out");
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void should_propagate_loader_exceptions_of_concurrent_loading() {
+    JsonApiIncludeResolver failingResolver =
+        includeResolver()
+            .resource(
+                Director.class,
+                Director::getId,
+                ids -> {
+                  throw new IllegalArgumentException("loader failed");
+                })
+            .relationship(
+                Movie.class,
+                "directors",
+                Director.class,
+                movie -> directorsOfMovie.get(movie.getId()))
+            .concurrentLoading(executor, Duration.ofSeconds(5));
+    List<Movie> primaryData = List.of(movies.get("1"));
+
+    assertThatThrownBy(() -> failingResolver.resolve(primaryData, "directors"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("loader failed");
+  }
+
+  @Test
+  void should_not_accept_non_positive_timeout() {
+    assertThatThrownBy(() -> includeResolver.concurrentLoading(executor, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static <T> List<T> awaitAndLoad(
+      CountDownLatch latch, Set<String> ids, Map<String, T> store) {
+    latch.countDown();
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("batch loaders did not run concurrently");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+    return ids.stream().map(store::get).toList();
+  }
+
+  private static <T> List<T> load(
+      Set<String> ids, Map<String, T> store, List<Set<String>> batches) {
+    batches.add(Set.copyOf(ids));
+    return ids.stream().map(store::get).toList();
+  }
+}
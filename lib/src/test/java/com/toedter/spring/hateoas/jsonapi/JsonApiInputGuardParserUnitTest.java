@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import com.toedter.spring.hateoas.jsonapi.support.MovieWithDirectors;
+import java.io.File;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiInputGuardParser Unit Test")
+class JsonApiInputGuardParserUnitTest extends JsonApiTestBase {
+
+  @Test
+  void should_deserialize_within_limits() throws Exception {
+    JsonMapper mapper =
+        createJsonMapper(
+            new JsonApiConfiguration()
+                .withMaxPrimaryResources(2)
+                .withMaxAttributes(1)
+                .withMaxNestingDepth(4));
+    JavaType type =
+        mapper.getTypeFactory().constructParametricType(CollectionModel.class, Movie.class);
+    File file = new ClassPathResource("moviesCollectionModel.json", getClass()).getFile();
+
+    CollectionModel<Movie> collectionModel = mapper.readValue(file, type);
+
+    assertThat(collectionModel.getContent()).hasSize(2);
+  }
+
+  @Test
+  void should_fail_for_too_many_primary_resources() throws Exception {
+    JsonMapper mapper = createJsonMapper(new JsonApiConfiguration().withMaxPrimaryResources(1));
+    JavaType type =
+        mapper.getTypeFactory().constructParametricType(CollectionModel.class, Movie.class);
+    File file = new ClassPathResource("moviesCollectionModel.json", getClass()).getFile();
+
+    Exception exception = assertThrows(Exception.class, () -> mapper.readValue(file, type));
+
+    JsonApiInputLimitExceededException limitExceededException = getLimitException(exception);
+    assertThat(limitExceededException.getErrors().getErrors()).hasSize(1);
+    assertThat(limitExceededException.getErrors().getErrors().get(0).getStatus())
+        .isEqualTo("400");
+  }
+
+  @Test
+  void should_fail_for_too_many_attributes() throws Exception {
+    JsonMapper mapper = createJsonMapper(new JsonApiConfiguration().withMaxAttributes(0));
+    JavaType type = mapper.getTypeFactory().constructParametricType(EntityModel.class, Movie.class);
+    File file = new ClassPathResource("movieEntityModel.json", getClass()).getFile();
+
+    Exception exception = assertThrows(Exception.class, () -> mapper.readValue(file, type));
+
+    assertThat(getLimitException(exception)).isNotNull();
+  }
+
+  @Test
+  void should_fail_for_too_many_included_resources() throws Exception {
+    JsonMapper mapper = createJsonMapper(new JsonApiConfiguration().withMaxIncludedResources(0));
+    JavaType type =
+        mapper
+            .getTypeFactory()
+            .constructParametricType(EntityModel.class, MovieWithDirectors.class);
+    File file = new ClassPathResource("movieWithIncludedRelationships.json", getClass()).getFile();
+
+    Exception exception = assertThrows(Exception.class, () -> mapper.readValue(file, type));
+
+    assertThat(getLimitException(exception)).isNotNull();
+  }
+
+  @Test
+  void should_fail_for_too_large_relationship_linkage() throws Exception {
+    JsonMapper mapper = createJsonMapper(new JsonApiConfiguration().withMaxRelationshipLinkage(1));
+    JavaType type =
+        mapper
+            .getTypeFactory()
+            .constructParametricType(EntityModel.class, MovieWithDirectors.class);
+    File file = new ClassPathResource("postMovieWithTwoRelationships.json", getClass()).getFile();
+
+    Exception exception = assertThrows(Exception.class, () -> mapper.readValue(file, type));
+
+    assertThat(getLimitException(exception)).isNotNull();
+  }
+
+  @Test
+  void should_fail_for_too_deep_nesting() throws Exception {
+    JsonMapper mapper = createJsonMapper(new JsonApiConfiguration().withMaxNestingDepth(3));
+    JavaType type =
+        mapper
+            .getTypeFactory()
+            .constructParametricType(EntityModel.class, MovieWithDirectors.class);
+    File file = new ClassPathResource("postMovieWithTwoRelationships.json", getClass()).getFile();
+
+    Exception exception = assertThrows(Exception.class, () -> mapper.readValue(file, type));
+
+    assertThat(getLimitException(exception)).isNotNull();
+  }
+
+  @Test
+  void should_track_tokens_of_string_arrays_and_collections() {
+    JsonMapper mapper = JsonMapper.builder().build();
+    JsonParser parser =
+        mapper.createParser(
+            "{\"genres\":[\"sci-fi\",\"action\"],\"actors\":[\"Mark\",\"Carrie\"],"
+                + "\"tags\":[\"space\"]}");
+    parser.nextToken();
+
+    // the arrays are only within the nesting depth if their end tokens are tracked
+    Tags tags =
+        mapper.readValue(
+            new JsonApiInputGuardParser(parser, new JsonApiConfiguration().withMaxNestingDepth(2)),
+            Tags.class);
+
+    assertThat(tags.genres()).containsExactly("sci-fi", "action");
+    assertThat(tags.actors()).containsExactly("Mark", "Carrie");
+    assertThat(tags.tags()).containsExactly("space");
+  }
+
+  @Test
+  void should_fail_for_too_deep_nesting_in_string_array() {
+    JsonMapper mapper = JsonMapper.builder().build();
+    JsonParser parser = mapper.createParser("{\"genres\":[\"sci-fi\"]}");
+    parser.nextToken();
+
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () ->
+                mapper.readValue(
+                    new JsonApiInputGuardParser(
+                        parser, new JsonApiConfiguration().withMaxNestingDepth(1)),
+                    Tags.class));
+
+    assertThat(getLimitException(exception)).isNotNull();
+  }
+
+  private JsonApiInputLimitExceededException getLimitException(Exception exception) {
+    Throwable cause = NestedExceptionUtils.getMostSpecificCause(exception);
+    assertThat(cause).isInstanceOf(JsonApiInputLimitExceededException.class);
+    return (JsonApiInputLimitExceededException) cause;
+  }
+
+  record Tags(String[] genres, List<String> actors, String[] tags) {}
+}
@@ -96,6 +96,28 @@ class JsonApiLinkDiscovererUnitTest extends JsonApiTestBase {
       // end::link-discoverer[]
     }
 
+    @Test
+    void should_find_links_after_data_included_and_meta() {
+      String source =
+          "{\"data\":{\"id\":\"1\",\"type\":\"movies\","
+              + "\"links\":{\"self\":\"http://localhost/x\"}},"
+              + "\"included\":[{\"id\":\"2\",\"type\":\"directors\"}],"
+              + "\"meta\":{\"links\":{\"self\":\"http://localhost/y\"}},"
+              + "\"links\":{\"self\":\"http://localhost/movies/1\"}}";
+
+      Optional<Link> link = discoverer.findLinkWithRel(SELF, source);
+      assertThat(link).map(Link::getHref).hasValue("http://localhost/movies/1");
+    }
+
+    @Test
+    void should_find_links_repeatedly_in_same_representation() throws IOException {
+      String source = readFile("movieEntityModelWithLinks.json");
+
+      assertThat(discoverer.findLinkWithRel(SELF, source)).isPresent();
+      assertThat(discoverer.findLinkWithRel(APPENDIX, source)).isEmpty();
+      assertThat(discoverer.findLinksWithRel(SELF, source).hasLink("self")).isTrue();
+    }
+
     @Test
     void should_not_find_links() throws IOException {
       String source = readFile("movieEntityModel.json");
@@ -387,4 +387,37 @@ class JsonApiLinksDeserializerUnitTest extends JsonApiTestBase {
     assertThat(link.getTitle()).isEqualTo("Meta Title");
     assertThat(link.getType()).isEqualTo("text/html");
   }
+
+  @Test
+  void should_ignore_unknown_link_properties_and_nested_meta() throws Exception {
+    String json =
+        """
+        {
+          "self": {
+            "describedby": {
+              "href": "http://example.com/schema"
+            },
+            "href": "http://example.com/articles/1",
+            "meta": {
+              "name": "article-link",
+              "count": 42,
+              "nested": {
+                "title": "Nested Title"
+              }
+            }
+          },
+          "related": "http://example.com/articles/1/author"
+        }
+        """;
+
+    Links links = mapper.readValue(json, Links.class);
+
+    assertThat(links).hasSize(2);
+    Link link = links.getRequiredLink("self");
+    assertThat(link.getHref()).isEqualTo("http://example.com/articles/1");
+    assertThat(link.getName()).isEqualTo("article-link");
+    assertThat(link.getTitle()).isNull();
+    assertThat(links.getRequiredLink("related").getHref())
+        .isEqualTo("http://example.com/articles/1/author");
+  }
 }
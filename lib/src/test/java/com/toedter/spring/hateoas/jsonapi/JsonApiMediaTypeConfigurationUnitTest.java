@@ -19,6 +19,8 @@ package com.toedter.spring.hateoas.jsonapi;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import com.toedter.spring.hateoas.jsonapi.support.Director;
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.hateoas.EntityModel;
 import org.springframework.http.MediaType;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.SerializationFeature;
@@ -68,6 +71,34 @@ class JsonApiMediaTypeConfigurationUnitTest {
     assertThat(mediaTypes.get(0)).hasToString("application/vnd.api+json");
   }
 
+  @Test
+  void should_create_model_builder_with_application_configuration() {
+    JsonApiConfiguration jsonApiConfiguration =
+        new JsonApiConfiguration().withTypeForClass(Director.class, "my-directors");
+    ObjectProvider<JsonApiConfiguration> provider =
+        new ObjectProvider<>() {
+          @Override
+          public JsonApiConfiguration getObject() {
+            return jsonApiConfiguration;
+          }
+        };
+    JsonApiMediaTypeConfiguration config = new JsonApiMediaTypeConfiguration(provider, null);
+
+    JsonApiModel jsonApiModel =
+        (JsonApiModel)
+            config
+                .jsonApiModel()
+                .model(EntityModel.of(new Movie("1", "The Matrix")))
+                .relationship("directors", new Director("3", "Lana Wachowski"))
+                .build();
+
+    assertThat(jsonApiModel.getRelationships()).containsKey("directors");
+    Object resolvedData =
+        jsonApiModel.getRelationships().get("directors").getResolvedData(jsonApiConfiguration);
+    assertThat(resolvedData).isInstanceOf(JsonApiResourceIdentifier.class);
+    assertThat(((JsonApiResourceIdentifier) resolvedData).getType()).isEqualTo("my-directors");
+  }
+
   // Note: getJacksonModule() test removed - Jackson 3 uses configureJsonMapper(Builder) instead
 
   @Test
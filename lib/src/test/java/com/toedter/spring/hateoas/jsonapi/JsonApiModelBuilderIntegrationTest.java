@@ -859,4 +859,186 @@ class JsonApiModelBuilderIntegrationTest extends JsonApiTestBase {
     final String movieJson = mapper.writeValueAsString(jsonApiModel);
     compareWithFile(movieJson, "movieJsonApiModelWithEmptyToManyRelationship.json");
   }
+
+  @Test
+  void should_not_retrieve_relationship_data_when_not_included() throws Exception {
+    Movie movie = new Movie("1", "Star Wars");
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel()
+            .model(movie)
+            .relationship(
+                "directors",
+                () -> {
+                  throw new IllegalStateException("must not be called");
+                },
+                JsonApiLinkagePolicy.WHEN_INCLUDED)
+            .relationship(
+                "directors", "http://movies/1/relationships/1", "http://movies/1/directors/1", null)
+            .build();
+
+    final String movieJson = mapper.writeValueAsString(jsonApiModel);
+    compareWithFile(movieJson, "movieJsonApiModelWithRelationshipLinksOnly.json");
+  }
+
+  @Test
+  void should_render_relationship_data_when_included() throws Exception {
+    Movie movie = new Movie("1", "Star Wars");
+    Director director = new Director("1", "George Lucas");
+    // tag::linkage-policy[]
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel()
+            .model(movie)
+            .relationship("directors", () -> director, JsonApiLinkagePolicy.WHEN_INCLUDED)
+            .relationship(
+                "directors", "http://movies/1/relationships/1", "http://movies/1/directors/1", null)
+            .includeParameter("directors.movies")
+            .build();
+    // end::linkage-policy[]
+
+    final String movieJson = mapper.writeValueAsString(jsonApiModel);
+    compareWithFile(movieJson, "movieJsonApiModelWithRelationshipWithLinks.json");
+  }
+
+  @Test
+  void should_render_relationship_data_when_in_sparse_fieldset() throws Exception {
+    Movie movie = new Movie("1", "Star Wars");
+    Director director = new Director("1", "George Lucas");
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel(new JsonApiConfiguration())
+            .model(movie)
+            .relationship("directors", () -> List.of(director), JsonApiLinkagePolicy.WHEN_INCLUDED)
+            .fields("movies", "title", "directors")
+            .build();
+
+    final String movieJson = mapper.writeValueAsString(jsonApiModel);
+    assertThat(movieJson).contains(""data":[{"id":"1","type":"directors"}]");
+  }
+
+  @Test
+  void should_not_render_relationship_data_when_in_sparse_fieldset_of_other_type() {
+    Movie movie = new Movie("1", "Star Wars");
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel(new JsonApiConfiguration())
+            .model(movie)
+            .relationship(
+                "directors",
+                () -> {
+                  throw new IllegalStateException("must not be called");
+                },
+                JsonApiLinkagePolicy.WHEN_INCLUDED)
+            .fields("directors", "name", "directors")
+            .build();
+
+    assertThat(((JsonApiModel) jsonApiModel).getRelationships()).doesNotContainKey("directors");
+  }
+
+  @Test
+  void should_render_relationship_data_when_in_sparse_fieldset_of_mapped_type() throws Exception {
+    JsonApiConfiguration jsonApiConfiguration =
+        new JsonApiConfiguration().withTypeForClass(Movie.class, "my-movies");
+    Movie movie = new Movie("1", "Star Wars");
+    Director director = new Director("1", "George Lucas");
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel(jsonApiConfiguration)
+            .model(movie)
+            .relationship("directors", () -> List.of(director), JsonApiLinkagePolicy.WHEN_INCLUDED)
+            .fields("my-movies", "title", "directors")
+            .build();
+
+    final String movieJson =
+        createJsonMapper(jsonApiConfiguration).writeValueAsString(jsonApiModel);
+    assertThat(movieJson).contains("\"type\":\"my-movies\"");
+    assertThat(movieJson).contains("\"data\":[{\"id\":\"1\",\"type\":\"directors\"}]");
+  }
+
+  @Test
+  void should_not_decide_linkage_by_sparse_fieldset_with_default_configuration() {
+    Movie movie = new Movie("1", "Star Wars");
+    JsonApiModelBuilder builder =
+        jsonApiModel()
+            .model(movie)
+            .relationship(
+                "directors",
+                () -> new Director("1", "George Lucas"),
+                JsonApiLinkagePolicy.WHEN_INCLUDED)
+            .fields("movies", "title", "directors");
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void should_omit_links_only_relationship_without_links() throws Exception {
+    Movie movie = new Movie("1", "Star Wars");
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel()
+            .model(movie)
+            .relationship(
+                "directors",
+                () -> new Director("1", "George Lucas"),
+                JsonApiLinkagePolicy.LINKS_ONLY)
+            .build();
+
+    final String movieJson = mapper.writeValueAsString(jsonApiModel);
+    compareWithFile(movieJson, "movieEntityModel.json");
+  }
+
+  @Test
+  void should_render_null_relationship_data_from_supplier() throws Exception {
+    Movie movie = new Movie("1", "Star Wars");
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel()
+            .model(EntityModel.of(movie))
+            .relationship("directors", () -> null, JsonApiLinkagePolicy.ALWAYS)
+            .build();
+
+    final String movieJson = mapper.writeValueAsString(jsonApiModel);
+    compareWithFile(movieJson, "movieWithNullRelationship.json");
+  }
+
+  @Test
+  void should_build_relationship_count_meta() throws Exception {
+    Movie movie = new Movie("1", "Star Wars");
+    // tag::relationship-count[]
+    JsonApiRelationshipCounts<Movie> directorCounts =
+        JsonApiRelationshipCounts.of(List.of(movie), Movie::getId, ids -> Map.of("1", 2L));
+
+    final RepresentationModel<?> jsonApiModel =
+        jsonApiModel()
+            .model(movie)
+            .relationship("directors", null, "http://movies/1/directors", Links.NONE)
+            .relationshipCount("directors", directorCounts.countOf(movie))
+            .build();
+    // end::relationship-count[]
+
+    final String movieJson = mapper.writeValueAsString(jsonApiModel);
+    compareWithFile(movieJson, "movieJsonApiModelWithRelationshipCount.json");
+  }
+
+  @Test
+  void should_append_many_relationship_data_objects() {
+    JsonApiModelBuilder builder = jsonApiModel().model(EntityModel.of(new Movie("1", "a")));
+    for (int i = 0; i < 1000; i++) {
+      builder.relationship("directors", new Director("" + i, "Director " + i));
+    }
+
+    JsonApiModel jsonApiModel = (JsonApiModel) builder.build();
+
+    assertThat((List<?>) jsonApiModel.getRelationships().get("directors").getData()).hasSize(1000);
+  }
+
+  @Test
+  void should_not_modify_built_model_when_appending_relationship_data() {
+    JsonApiModelBuilder builder =
+        jsonApiModel()
+            .model(EntityModel.of(new Movie("1", "a")))
+            .relationship("directors", new Director("1", "Director 1"))
+            .relationship("directors", new Director("2", "Director 2"));
+    JsonApiModel first = (JsonApiModel) builder.build();
+
+    builder.relationship("directors", new Director("3", "Director 3"));
+    JsonApiModel second = (JsonApiModel) builder.build();
+
+    assertThat((List<?>) first.getRelationships().get("directors").getData()).hasSize(2);
+    assertThat((List<?>) second.getRelationships().get("directors").getData()).hasSize(3);
+  }
 }
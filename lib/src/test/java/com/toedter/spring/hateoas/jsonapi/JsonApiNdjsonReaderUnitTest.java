@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiNdjsonReader Unit Test")
+class JsonApiNdjsonReaderUnitTest extends JsonApiTestBase {
+
+  private final JsonApiNdjsonReader reader = new JsonApiNdjsonReader(new JsonApiConfiguration());
+
+  @Test
+  void should_read_resource_objects_lazily() throws Exception {
+    try (Stream<EntityModel<Movie>> movies = reader.read(getStream("movies.ndjson"), Movie.class)) {
+      List<String> titles = movies.map(movie -> movie.getContent().getTitle()).toList();
+
+      assertThat(titles).containsExactly("Star Wars", "Avengers", "Batman");
+    }
+  }
+
+  @Test
+  void should_read_with_given_json_api_mapper() throws Exception {
+    JsonApiNdjsonReader mapperReader =
+        new JsonApiNdjsonReader(createJsonMapper(new JsonApiConfiguration()));
+
+    try (Stream<EntityModel<Movie>> movies =
+        mapperReader.read(getStream("movies.ndjson"), Movie.class)) {
+      assertThat(movies.map(movie -> movie.getContent().getId()).toList())
+          .containsExactly("1", "2", "3");
+    }
+  }
+
+  @Test
+  void should_enforce_input_limits_for_each_resource_object() throws Exception {
+    JsonApiNdjsonReader limitedReader =
+        new JsonApiNdjsonReader(createJsonMapper(new JsonApiConfiguration().withMaxAttributes(0)));
+
+    try (Stream<EntityModel<Movie>> movies =
+        limitedReader.read(getStream("movies.ndjson"), Movie.class)) {
+      assertThatThrownBy(movies::toList)
+          .satisfies(
+              e ->
+                  assertThat(NestedExceptionUtils.getMostSpecificCause(e))
+                      .isInstanceOf(JsonApiInputLimitExceededException.class));
+    }
+  }
+
+  @Test
+  void should_read_empty_input() {
+    try (Stream<EntityModel<Movie>> movies =
+        reader.read(new ByteArrayInputStream(new byte[0]), Movie.class)) {
+      assertThat(movies).isEmpty();
+    }
+  }
+
+  @Test
+  void should_not_read_non_object_lines() {
+    byte[] input = "[1, 2]\n".getBytes(StandardCharsets.UTF_8);
+
+    try (Stream<EntityModel<Movie>> movies =
+        reader.read(new ByteArrayInputStream(input), Movie.class)) {
+      assertThatThrownBy(movies::toList).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void should_read_in_batches() throws Exception {
+    try (Stream<List<EntityModel<Movie>>> batches =
+        JsonApiNdjsonReader.batched(reader.read(getStream("movies.ndjson"), Movie.class), 2)) {
+      List<Integer> batchSizes = batches.map(List::size).toList();
+
+      assertThat(batchSizes).containsExactly(2, 1);
+    }
+  }
+
+  @Test
+  void should_not_create_batches_with_invalid_size() {
+    Stream<String> stream = Stream.of("a");
+
+    assertThatThrownBy(() -> JsonApiNdjsonReader.batched(stream, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void should_read_with_http_message_converter() throws Exception {
+    JsonApiNdjsonHttpMessageConverter converter =
+        new JsonApiNdjsonHttpMessageConverter(new JsonApiConfiguration());
+    Method method = getClass().getDeclaredMethod("ingest", Stream.class);
+    ResolvableType type = ResolvableType.forMethodParameter(new MethodParameter(method, 0));
+
+    assertThat(converter.canRead(type, MediaType.APPLICATION_NDJSON)).isTrue();
+    assertThat(converter.canRead(type, MediaType.APPLICATION_JSON)).isFalse();
+    assertThat(converter.canRead(ResolvableType.forClass(String.class), null)).isFalse();
+
+    MockHttpInputMessage inputMessage = new MockHttpInputMessage(getStream("movies.ndjson"));
+    try (Stream<?> movies = converter.read(type, inputMessage, null)) {
+      assertThat(movies).hasSize(3).allMatch(EntityModel.class::isInstance);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private void ingest(Stream<EntityModel<Movie>> movies) {}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiRelationshipCounts Unit Test")
+class JsonApiRelationshipCountsUnitTest {
+
+  private final Movie movie1 = new Movie("1", "Star Wars");
+  private final Movie movie2 = new Movie("2", "Avengers");
+  private final List<Set<String>> batches = new ArrayList<>();
+
+  private final JsonApiRelationshipCounts<Movie> counts =
+      JsonApiRelationshipCounts.of(
+          List.of(movie1, movie2),
+          Movie::getId,
+          ids -> {
+            batches.add(ids);
+            return Map.of("1", 3);
+          });
+
+  @Test
+  void should_count_all_resources_in_one_batch() {
+    assertThat(counts.countOf(movie1).getAsLong()).isEqualTo(3);
+    assertThat(counts.countOf(movie2).getAsLong()).isZero();
+
+    assertThat(batches).containsExactly(Set.of("1", "2"));
+  }
+
+  @Test
+  void should_count_lazily() {
+    counts.countOf(movie1);
+
+    assertThat(batches).isEmpty();
+  }
+
+  @Test
+  void should_not_count_unknown_resource() {
+    Movie movie = new Movie("3", "Batman");
+
+    assertThatThrownBy(() -> counts.countOf(movie).getAsLong())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
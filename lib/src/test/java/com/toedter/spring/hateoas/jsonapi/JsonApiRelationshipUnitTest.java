@@ -330,4 +330,125 @@ class JsonApiRelationshipUnitTest {
     Collection<Object> data = (Collection<Object>) jsonApiRelationship.getData();
     assertThat(data).isEmpty();
   }
+
+  @Test
+  void should_keep_resolved_identifiers_when_validated() {
+    JsonApiConfiguration configuration = new JsonApiConfiguration();
+    JsonApiRelationship jsonApiRelationship =
+        JsonApiRelationship.of(movie)
+            .validate(new JsonApiResourceIdentityCache(configuration))
+            .orElseThrow();
+
+    Object resolvedData = jsonApiRelationship.getResolvedData(configuration);
+
+    assertThat(resolvedData).isInstanceOf(JsonApiResourceIdentifier.class);
+    assertThat(((JsonApiResourceIdentifier) resolvedData).getId()).isEqualTo("1");
+    assertThat(((JsonApiResourceIdentifier) resolvedData).getType()).isEqualTo("movies");
+  }
+
+  @Test
+  void should_not_reuse_resolved_identifiers_for_different_type_configuration() {
+    JsonApiRelationship jsonApiRelationship =
+        JsonApiRelationship.of(movie)
+            .validate(new JsonApiResourceIdentityCache(new JsonApiConfiguration()))
+            .orElseThrow();
+
+    assertThat(jsonApiRelationship.getResolvedData(new JsonApiConfiguration())).isNotNull();
+    assertThat(
+            jsonApiRelationship.getResolvedData(
+                new JsonApiConfiguration().withPluralizedTypeRendered(false)))
+        .isNull();
+  }
+
+  @Test
+  void should_not_reuse_resolved_identifiers_for_modified_data() {
+    List<Movie> movies = new ArrayList<>();
+    movies.add(movie);
+    JsonApiConfiguration configuration = new JsonApiConfiguration();
+    JsonApiRelationship jsonApiRelationship =
+        JsonApiRelationship.of(movies)
+            .validate(new JsonApiResourceIdentityCache(configuration))
+            .orElseThrow();
+
+    movies.add(new Movie("2", "Avengers"));
+
+    assertThat(jsonApiRelationship.getResolvedData(configuration)).isNull();
+  }
+
+  @Test
+  void should_not_validate_invalid_data() {
+    JsonApiRelationship jsonApiRelationship = new JsonApiRelationship(new Object(), null, null);
+
+    assertThat(
+            jsonApiRelationship.validate(
+                new JsonApiResourceIdentityCache(new JsonApiConfiguration())))
+        .isEmpty();
+  }
+
+  @Test
+  void should_append_many_data_objects() {
+    JsonApiRelationship jsonApiRelationship = new JsonApiRelationship(null, null, null);
+    for (int i = 0; i < 1000; i++) {
+      jsonApiRelationship = jsonApiRelationship.addDataObject(new Movie("" + i, "Movie " + i));
+    }
+
+    assertThat((List<?>) jsonApiRelationship.getData()).hasSize(1000);
+  }
+
+  @Test
+  void should_not_modify_data_of_validated_relationship_when_appending() {
+    JsonApiRelationship jsonApiRelationship =
+        JsonApiRelationship.of(movie).addDataObject(new Movie("2", "Avengers"));
+    JsonApiRelationship validated =
+        jsonApiRelationship
+            .validate(new JsonApiResourceIdentityCache(new JsonApiConfiguration()))
+            .orElseThrow();
+
+    jsonApiRelationship = jsonApiRelationship.addDataObject(new Movie("3", "Batman"));
+
+    assertThat((List<?>) validated.getData()).hasSize(2);
+    assertThat((List<?>) jsonApiRelationship.getData()).hasSize(3);
+  }
+
+  @Test
+  void should_not_modify_relationship_appended_to() {
+    JsonApiRelationship first = JsonApiRelationship.of(movie).addDataObject(new Movie("2", "b"));
+    JsonApiRelationship withLinks = first.withLinks(Links.of(Link.of("x")));
+
+    JsonApiRelationship second = first.addDataObject(new Movie("3", "c"));
+    JsonApiRelationship third = withLinks.addDataObject(new Movie("4", "d"));
+
+    assertThat((List<?>) first.getData()).hasSize(2);
+    assertThat((List<?>) withLinks.getData()).hasSize(2);
+    assertThat((List<?>) second.getData()).hasSize(3);
+    assertThat((List<?>) third.getData()).hasSize(3);
+  }
+
+  @Test
+  void should_not_share_meta_with_copied_relationship() {
+    Movie movie2 = new Movie("2", "Avengers");
+    JsonApiRelationship jsonApiRelationship =
+        JsonApiRelationship.of(movie, Map.of("key", "value1"));
+    JsonApiRelationship withLinks = jsonApiRelationship.withLinks(Links.of(Link.of("x")));
+
+    JsonApiRelationship appended = withLinks.addDataObject(movie2, Map.of("key", "value2"));
+
+    assertThat(jsonApiRelationship.getMetaForResourceIdentifiers()).hasSize(1);
+    assertThat(appended.getMetaForResourceIdentifiers()).hasSize(2);
+  }
+
+  @Test
+  void should_look_up_resource_identifier_meta_by_identity() {
+    JsonApiRelationship jsonApiRelationship =
+        JsonApiRelationship.of(movie, Map.of("key", "value"));
+    JsonApiConfiguration configuration = new JsonApiConfiguration();
+
+    assertThat(jsonApiRelationship.toJsonApiResource(movie, configuration).getMeta())
+        .containsEntry("key", "value");
+    assertThat(
+            jsonApiRelationship
+                .toJsonApiResource(new Movie("1", "Star Wars"), configuration)
+                .getMeta())
+        .isNull();
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiRelationshipsSerializer Unit Test")
+class JsonApiRelationshipsSerializerUnitTest {
+
+  private final JsonMapper mapper =
+      JsonApiMediaTypeConfiguration.configureJsonMapper(
+              JsonMapper.builder(), new JsonApiConfiguration(), null)
+          .build();
+
+  @Test
+  void should_write_relationships_in_order() {
+    Map<String, Object> relationships = new LinkedHashMap<>();
+    relationships.put(
+        "directors", JsonApiRelationship.of(Links.of(Link.of("http://localhost/directors"))));
+    relationships.put("actors", JsonApiRelationship.of(Map.<String, Object>of("count", 2)));
+
+    String json =
+        mapper.writeValueAsString(new JsonApiData("1", "movies", null, relationships, null, null));
+
+    assertThat(json)
+        .contains(
+            "\"relationships\":{"
+                + "\"directors\":{\"links\":{\"self\":\"http://localhost/directors\"}},"
+                + "\"actors\":{\"meta\":{\"count\":2}}}");
+  }
+
+  @Test
+  void should_not_write_empty_relationships() {
+    String json =
+        mapper.writeValueAsString(
+            new JsonApiData("1", "movies", null, Collections.emptyMap(), null, null));
+
+    assertThat(json).doesNotContain("relationships");
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiResourceIdentityCache Unit Test")
+class JsonApiResourceIdentityCacheUnitTest {
+
+  private final JsonApiResourceIdentityCache identityCache =
+      new JsonApiResourceIdentityCache(new JsonApiConfiguration());
+
+  @Test
+  void should_compute_id_and_type() {
+    Movie movie = new Movie("1", "Star Wars");
+
+    assertThat(identityCache.getId(movie).value).isEqualTo("1");
+    assertThat(identityCache.getType(movie).value).isEqualTo("movies");
+  }
+
+  @Test
+  void should_return_cached_id_and_type_for_same_instance() {
+    Movie movie = new Movie("1", "Star Wars");
+    JsonApiResourceIdentifier.ResourceField id = identityCache.getId(movie);
+    JsonApiResourceIdentifier.ResourceField type = identityCache.getType(movie);
+
+    movie.setId("2");
+
+    assertThat(identityCache.getId(movie)).isSameAs(id);
+    assertThat(identityCache.getType(movie)).isSameAs(type);
+    assertThat(identityCache.getId(movie).value).isEqualTo("1");
+  }
+
+  @Test
+  void should_compare_objects_by_identity() {
+    Movie movie1 = new Movie("1", "Star Wars");
+    Movie movie2 = new Movie("1", "Star Wars");
+
+    assertThat(identityCache.getId(movie2)).isNotSameAs(identityCache.getId(movie1));
+  }
+
+  @Test
+  void should_not_cache_failures() {
+    Movie movie = new Movie(null, "Star Wars");
+
+    assertThatThrownBy(() -> identityCache.getId(movie))
+        .isInstanceOf(IllegalStateException.class);
+
+    movie.setId("1");
+
+    assertThat(identityCache.getId(movie).value).isEqualTo("1");
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import com.toedter.spring.hateoas.jsonapi.support.MovieWithAnnotations;
+import com.toedter.spring.hateoas.jsonapi.support.MovieWithAnnotationsDerived;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiRuntimeHints Unit Test")
+class JsonApiRuntimeHintsUnitTest {
+
+  @Test
+  void should_register_internal_types() {
+    RuntimeHints hints = new RuntimeHints();
+
+    new JsonApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    assertThat(RuntimeHintsPredicates.reflection().onType(JsonApiDocument.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(JsonApiData.class)).accepts(hints);
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(JsonApiEntityModelSerializer.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+        .accepts(hints);
+    assertThat(
+            RuntimeHintsPredicates.reflection().onType(JacksonJsonApiModule.PagedModelMixin.class))
+        .accepts(hints);
+  }
+
+  @Test
+  void should_register_resource_classes() {
+    RuntimeHints hints = new RuntimeHints();
+
+    JsonApiRuntimeHints.registerResourceHints(hints.reflection(), List.of(Movie.class));
+
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(Movie.class)
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS))
+        .accepts(hints);
+  }
+
+  @Test
+  void should_register_hints_ahead_of_time_with_bean_definitions_only() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerBeanDefinition(
+        "jsonApiConfiguration", new RootBeanDefinition(JsonApiConfiguration.class));
+    AutoConfigurationPackages.register(beanFactory, MovieWithAnnotations.class.getPackageName());
+
+    BeanFactoryInitializationAotContribution contribution =
+        new JsonApiBeanFactoryInitializationAotProcessor().processAheadOfTime(beanFactory);
+    assertThat(contribution).isNotNull();
+
+    RuntimeHints hints = new RuntimeHints();
+    GenerationContext generationContext = mock(GenerationContext.class);
+    when(generationContext.getRuntimeHints()).thenReturn(hints);
+    contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(MovieWithAnnotations.class)
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS))
+        .accepts(hints);
+    assertThat(beanFactory.containsSingleton("jsonApiConfiguration")).isFalse();
+  }
+
+  @Test
+  void should_find_resource_classes_with_annotated_fields_in_application_packages() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    AutoConfigurationPackages.register(beanFactory, MovieWithAnnotations.class.getPackageName());
+
+    assertThat(JsonApiBeanFactoryInitializationAotProcessor.findResourceClasses(beanFactory))
+        .contains(MovieWithAnnotations.class, MovieWithAnnotationsDerived.class)
+        .doesNotContain(Movie.class);
+  }
+
+  @Test
+  void should_not_create_json_api_configuration_bean() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerBeanDefinition(
+        "jsonApiConfiguration", new RootBeanDefinition(JsonApiConfiguration.class));
+
+    JsonApiBeanFactoryInitializationAotProcessor.findResourceClasses(beanFactory);
+
+    assertThat(beanFactory.containsSingleton("jsonApiConfiguration")).isFalse();
+  }
+
+  @Test
+  void should_not_contribute_without_resource_classes() {
+    assertThat(
+            new JsonApiBeanFactoryInitializationAotProcessor()
+                .processAheadOfTime(new DefaultListableBeanFactory()))
+        .isNull();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiRuntimePlan Unit Test")
+class JsonApiRuntimePlanUnitTest {
+
+  @Test
+  void should_not_render_empty_jsonapi_object() {
+    JsonApiRuntimePlan plan =
+        JsonApiRuntimePlan.of(
+            new JsonApiConfiguration().withJsonApiObject(new JsonApiObject(false)));
+
+    assertThat(plan.getRenderedJsonApiObject()).isNull();
+  }
+
+  @Test
+  void should_render_jsonapi_object_with_version() {
+    JsonApiObject jsonApiObject = new JsonApiObject(true);
+    JsonApiRuntimePlan plan =
+        JsonApiRuntimePlan.of(new JsonApiConfiguration().withJsonApiObject(jsonApiObject));
+
+    assertThat(plan.getRenderedJsonApiObject()).isSameAs(jsonApiObject);
+  }
+
+  @Test
+  void should_know_top_level_link_relations() {
+    assertThat(JsonApiRuntimePlan.isTopLevelLinkRelation(IanaLinkRelations.SELF)).isTrue();
+    assertThat(JsonApiRuntimePlan.isTopLevelLinkRelation(LinkRelation.of("Next"))).isTrue();
+    assertThat(JsonApiRuntimePlan.isTopLevelLinkRelation(LinkRelation.of("movies"))).isFalse();
+  }
+
+  @Test
+  void should_keep_first_link_of_each_valid_top_level_relation() {
+    Links links =
+        Links.of(
+            Link.of("http://localhost/movies"),
+            Link.of("http://localhost/other"),
+            Link.of("http://localhost/movies?page=2", IanaLinkRelations.NEXT),
+            Link.of("http://localhost/directors", "directors"));
+
+    assertThat(JsonApiRuntimePlan.filterTopLevelLinks(links))
+        .containsExactly(
+            Link.of("http://localhost/movies"),
+            Link.of("http://localhost/movies?page=2", IanaLinkRelations.NEXT));
+  }
+
+  @Test
+  void should_return_same_links_if_all_are_valid() {
+    Links links = Links.of(Link.of("http://localhost/movies"));
+
+    assertThat(JsonApiRuntimePlan.filterTopLevelLinks(links)).isSameAs(links);
+  }
+
+  @Test
+  void should_keep_only_self_links_at_resource_level() {
+    Links links =
+        Links.of(
+            Link.of("http://localhost/movies/1"),
+            Link.of("http://localhost/directors", "directors"));
+
+    assertThat(JsonApiRuntimePlan.filterResourceLinks(links))
+        .containsExactly(Link.of("http://localhost/movies/1"));
+  }
+
+  @Test
+  void should_return_no_top_level_links_for_empty_links() {
+    JsonApiRuntimePlan plan = JsonApiRuntimePlan.of(new JsonApiConfiguration());
+
+    assertThat(plan.getTopLevelLinks(Links.NONE)).isNull();
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiTokens Unit Test")
+class JsonApiTokensUnitTest {
+
+  @Test
+  void should_intern_names() {
+    assertThat(JsonApiTokens.name("self")).isSameAs(JsonApiTokens.name("self"));
+    assertThat(JsonApiTokens.name("directors")).isSameAs(JsonApiTokens.name("directors"));
+    assertThat(JsonApiTokens.name("directors").getValue()).isEqualTo("directors");
+  }
+
+  @Test
+  void should_write_pre_encoded_names() {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator gen = JsonMapper.builder().build().createGenerator(writer)) {
+      gen.writeStartObject();
+      gen.writeName(JsonApiTokens.HAL_FORMS_TEMPLATES);
+      gen.writeString("x");
+      gen.writeName(JsonApiTokens.name("\"quoted\""));
+      gen.writeString("y");
+      gen.writeEndObject();
+    }
+
+    assertThat(writer).hasToString("{\"hal-forms-templates\":\"x\",\"\\\"quoted\\\"\":\"y\"}");
+  }
+}
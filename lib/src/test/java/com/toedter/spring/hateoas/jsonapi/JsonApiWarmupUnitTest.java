@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.toedter.spring.hateoas.jsonapi.support.Director;
+import com.toedter.spring.hateoas.jsonapi.support.Movie;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("JsonApiWarmup Unit Test")
+class JsonApiWarmupUnitTest {
+
+  @Test
+  void should_warm_up_resource_classes() {
+    JsonMapper jsonMapper =
+        JsonApiMediaTypeConfiguration.configureJsonMapper(
+                JsonMapper.builder(), new JsonApiConfiguration(), null)
+            .build();
+    JacksonJsonHttpMessageConverter converter = new JacksonJsonHttpMessageConverter(jsonMapper);
+    converter.setSupportedMediaTypes(List.of(MediaTypes.JSON_API));
+
+    assertThat(JsonApiWarmup.warmUp(List.of(converter), List.of(Movie.class, Director.class)))
+        .containsOnlyKeys(Movie.class, Director.class);
+  }
+
+  @Test
+  void should_skip_resource_classes_without_json_api_converter() {
+    assertThat(JsonApiWarmup.warmUp(List.of(), List.of(Movie.class))).isEmpty();
+  }
+
+  @Test
+  void should_only_support_application_ready_event() {
+    JsonApiWarmup warmup = new JsonApiWarmup(new DefaultListableBeanFactory());
+
+    assertThat(warmup.supportsEventType(ApplicationReadyEvent.class)).isTrue();
+    assertThat(warmup.supportsEventType(ContextRefreshedEvent.class)).isFalse();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@DisplayName("PageLinkTemplate Unit Test")
+class PageLinkTemplateUnitTest {
+
+  @Test
+  void should_render_href() {
+    PageLinkTemplate template = PageLinkTemplate.of("http://localhost/movies");
+
+    assertThat(template.href(3, 20))
+        .isEqualTo("http://localhost/movies?page[number]=3&page[size]=20");
+  }
+
+  @Test
+  void should_render_href_for_link_base_with_query() {
+    PageLinkTemplate template =
+        PageLinkTemplate.of("http://localhost/movies?director=lucas", "p", "s");
+
+    assertThat(template.href(1, 10)).isEqualTo("http://localhost/movies?director=lucas&p=1&s=10");
+  }
+
+  @Test
+  void should_create_all_links_for_middle_page() {
+    List<Link> links =
+        PageLinkTemplate.of("http://localhost/movies", "p", "s")
+            .links(new PagedModel.PageMetadata(10, 1, 100, 10));
+
+    assertThat(links)
+        .containsExactly(
+            Link.of("http://localhost/movies?p=0&s=10", IanaLinkRelations.FIRST),
+            Link.of("http://localhost/movies?p=0&s=10", IanaLinkRelations.PREV),
+            Link.of("http://localhost/movies?p=2&s=10", IanaLinkRelations.NEXT),
+            Link.of("http://localhost/movies?p=9&s=10", IanaLinkRelations.LAST));
+  }
+
+  @Test
+  void should_not_create_links_for_single_page() {
+    assertThat(
+            PageLinkTemplate.of("http://localhost/movies")
+                .links(new PagedModel.PageMetadata(10, 0, 5, 1)))
+        .isEmpty();
+  }
+
+  @Test
+  void should_not_create_template_with_invalid_link_base() {
+    assertThrows(IllegalArgumentException.class, () -> PageLinkTemplate.of("httpx://test::8080"));
+  }
+}
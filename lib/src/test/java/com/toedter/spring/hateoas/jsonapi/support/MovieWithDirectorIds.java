@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.toedter.spring.hateoas.jsonapi.support;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.toedter.spring.hateoas.jsonapi.JsonApiRelationships;
+import java.util.List;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+// tag::movie-with-director-ids[]
+// @fold:on
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+// @fold:off
+public class MovieWithDirectorIds extends Movie {
+
+  @JsonIgnore
+  @JsonApiRelationships("directors")
+  long[] directorIds;
+
+  @JsonIgnore
+  @JsonApiRelationships("directors")
+  List<String> directorIdList;
+}
+// end::movie-with-director-ids[]